@@ -0,0 +1,76 @@
+package com.main.suwoninfo.batch;
+
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이전 세대 캐시 키 정리
+ * 세대를 올리면 이전 키는 아무도 읽지 않으므로, SCAN 으로 훑으며 현재 세대가 아닌 키를 나눠서 UNLINK 한다
+ * 마지막으로 정리한 세대를 Redis 에 남겨, 그 뒤로 세대가 오르지 않았으면 전체 SCAN 을 건너뛴다
+ */
+@Slf4j
+@Component
+public class CacheKeyReclaimScheduler {
+
+    private static final String RECLAIMED_KEY_PREFIX = "cache:reclaimed:";
+
+    private final RedisUtils redisUtils;
+    private final String[] versions;
+    private final int batchSize;
+
+    public CacheKeyReclaimScheduler(RedisUtils redisUtils,
+                                    @Value("${cache.reclaim.versions:v1}") String[] versions,
+                                    @Value("${cache.reclaim.batch-size:500}") int batchSize) {
+        this.redisUtils = redisUtils;
+        this.versions = versions;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${cache.reclaim.cron:0 30 4 * * *}")
+    public void reclaim() {
+        for (String version : versions) {
+            try {
+                // 로컬 세대는 갱신이 늦을 수 있으므로 Redis 에서 바로 읽는다
+                long generation = redisUtils.readGeneration(version);
+                String reclaimed = redisUtils.stringGet(RECLAIMED_KEY_PREFIX + version);
+                if (generation <= (reclaimed != null ? Long.parseLong(reclaimed) : 0L)) {
+                    log.debug("정리할 이전 세대 없음: version={}, generation={}", version, generation);
+                    continue;
+                }
+
+                // 확인한 세대보다 낮은 세대만 정리 (SCAN 도중 다른 노드가 올린 더 새 세대의 키는 남긴다)
+                // v1:... (세대 0) 과 v1.{세대}:... 만 대상, v10 같은 다른 버전은 제외
+                long unlinked = redisUtils.unlinkMatching(version + "[:.]*", batchSize,
+                        key -> generationOf(version, key) < generation);
+                redisUtils.stringSet(RECLAIMED_KEY_PREFIX + version, String.valueOf(generation));
+
+                log.info("이전 세대 캐시 키 정리 완료: version={}, generation={}, unlinked={}", version, generation, unlinked);
+            } catch (Exception e) {
+                log.error("이전 세대 캐시 키 정리 실패: version={}, msg={}", version, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 키의 세대 (v1:key 는 0, v1.{세대}:key 는 세대)
+     * 형식이 다르면 지우지 않도록 Long.MAX_VALUE
+     */
+    static long generationOf(String version, String key) {
+        if (key.startsWith(version + ":")) {
+            return 0L;
+        }
+
+        int end = key.indexOf(':', version.length() + 1);
+        if (!key.startsWith(version + ".") || end < 0) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(key.substring(version.length() + 1, end));
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -12,9 +12,12 @@ import org.springframework.batch.item.database.JdbcPagingItemReader;
 import org.springframework.batch.item.database.Order;
 import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
@@ -25,41 +28,104 @@ import java.util.Map;
 @Configuration
 public class PaginationCacheBatchConfig {
 
+    public static final String CACHE_STEP = "cacheStep";
+    public static final String PARTITIONED_CACHE_STEP = "partitionedCacheStep";
+
     private final int CHUNK_SIZE = 1000;
 
+    @Value("${pagination.cursor.partitions:1}")
+    private int partitions; // 1 이면 단일 스텝, 그보다 크면 post_id 범위별로 병렬 처리
+
     @Bean
-    public Job paginationCacheJob(JobRepository jobRepository, Step cacheStep) {
+    public Job paginationCacheJob(JobRepository jobRepository,
+                                  @Qualifier(CACHE_STEP) Step cacheStep,
+                                  @Qualifier(PARTITIONED_CACHE_STEP) Step partitionedCacheStep,
+                                  PaginationCacheJobListener paginationCacheJobListener) {
         return new JobBuilder("PaginationCacheJob", jobRepository)
-                .start(cacheStep)
+                .listener(paginationCacheJobListener)
+                .start(partitions > 1 ? partitionedCacheStep : cacheStep)
                 .build();
     }
 
-    @Bean
+    @Bean(CACHE_STEP)
     public Step cacheStep(JobRepository jobRepository,
                           PlatformTransactionManager transactionManager,
                           ItemReader<Long> postPagingReader,
                           RedisPaginationWriter redisPaginationWriter) throws Exception {
 
-        return new StepBuilder("cacheStep", jobRepository)
+        return new StepBuilder(CACHE_STEP, jobRepository)
+                .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
+                .reader(postPagingReader)
+                .writer(redisPaginationWriter)
+                .build();
+    }
+
+    /**
+     * post_id 범위별 워커를 동시에 실행하는 스텝
+     * 워커 수만큼 DB 커넥션을 쓰므로 partitions 는 커넥션 풀 크기보다 작게 잡는다
+     */
+    @Bean(PARTITIONED_CACHE_STEP)
+    public Step partitionedCacheStep(JobRepository jobRepository,
+                                     @Qualifier("cacheWorkerStep") Step cacheWorkerStep,
+                                     PostIdRangePartitioner postIdRangePartitioner) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("pagination-cache-");
+        taskExecutor.setConcurrencyLimit(partitions);
+
+        return new StepBuilder(PARTITIONED_CACHE_STEP, jobRepository)
+                .partitioner("cacheWorkerStep", postIdRangePartitioner)
+                .step(cacheWorkerStep)
+                .gridSize(partitions)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step cacheWorkerStep(JobRepository jobRepository,
+                                PlatformTransactionManager transactionManager,
+                                ItemReader<Long> postPagingReader,
+                                RedisPaginationWriter redisPaginationWriter) throws Exception {
+
+        return new StepBuilder("cacheWorkerStep", jobRepository)
                 .<Long, Long>chunk(CHUNK_SIZE, transactionManager)
                 .reader(postPagingReader)
                 .writer(redisPaginationWriter)
                 .build();
     }
 
+    @Bean
+    @StepScope
+    public PostIdRangePartitioner postIdRangePartitioner(DataSource dataSource,
+                                                         @Value("#{jobParameters['post_type']}") String type,
+                                                         @Value("#{jobExecutionContext['snapshot_max_id']}") Long snapshotMaxId) {
+        return new PostIdRangePartitioner(new JdbcTemplate(dataSource), type, snapshotMaxId);
+    }
+
+    /**
+     * 분할 실행이면 파티션의 post_id 범위만, 단일 스텝이면 잡 시작 시점의 MAX(post_id) 까지만 읽는다
+     */
     @Bean
     @StepScope
     public JdbcPagingItemReader<Long> postPagingReader(DataSource dataSource,
-                                                       @Value("#{jobParameters['post_type']}") String type) throws Exception {
+                                                       @Value("#{jobParameters['post_type']}") String type,
+                                                       @Value("#{stepExecutionContext['min_id']}") Long minId,
+                                                       @Value("#{stepExecutionContext['max_id']}") Long maxId,
+                                                       @Value("#{jobExecutionContext['snapshot_max_id']}") Long snapshotMaxId) throws Exception {
         SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
         queryProvider.setDataSource(dataSource);
 
+        String where = "WHERE post_type = '" + type + "'";
+        if (minId != null && maxId != null) {
+            where += " AND post_id BETWEEN " + minId + " AND " + maxId;
+        } else if (snapshotMaxId != null) {
+            where += " AND post_id <= " + snapshotMaxId;
+        }
+
         queryProvider.setSelectClause("SELECT post_id");
         queryProvider.setFromClause("FROM post");
-        queryProvider.setWhereClause("WHERE post_type = '" + type + "'");
+        queryProvider.setWhereClause(where);
 
         Map<String, Order> sortKeys = new LinkedHashMap<>();
-        sortKeys.put("post_id", Order.DESCENDING);
+        sortKeys.put("post_id", Order.ASCENDING); // 오래된 게시글부터 읽어 읽은 순서가 곧 seq
         queryProvider.setSortKeys(sortKeys);
 
         return new JdbcPagingItemReaderBuilder<Long>()
@@ -0,0 +1,85 @@
+package com.main.suwoninfo.batch;
+
+import com.main.suwoninfo.repository.PostOutboxRepository;
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이정표 배치 전후 처리
+ * 시작 시 아웃박스 워터마크와 스냅샷 MAX(post_id) 를 기록하고, 재구성 중 표시를 남겨
+ * PaginationCursorMaintainer 가 워터마크 이후 행을 반영하지 않고 보류하게 한다
+ * 완료 후 새 이정표 ZSET 으로 교체하고 스냅샷 기준 전체 게시글 수를 기록한 뒤 표시를 지우면,
+ * 보류된 행이 새 키에 반영된다 (스냅샷 MAX 이하 생성은 이미 포함돼 있어 생성 스크립트가 건너뛴다)
+ * 남는 오차는 배치와 거의 동시에 커밋된 행뿐이다 (리더가 지나가기 전에 삭제/이동된 게시글이 한 번 더 반영되는 경우 등)
+ * 이런 오차는 다음 재구성이 바로잡는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaginationCacheJobListener implements JobExecutionListener {
+
+    public static final String SNAPSHOT_MAX_ID = "snapshot_max_id";
+
+    // 잡이 죽어 afterJob 이 불리지 않아도 릴레이가 영원히 멈추지 않도록
+    private static final Duration REBUILD_HOLD_TTL = Duration.ofHours(1);
+
+    private final RedisUtils redisUtils;
+    private final PostOutboxRepository postOutboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        String type = jobExecution.getJobParameters().getString("post_type");
+        redisUtils.delete(RedisPaginationWriter.buildingCursorKey(type));
+
+        // 워터마크를 먼저 잡아야 워터마크 이하 생성이 모두 스냅샷 MAX 이하가 된다
+        long watermark = postOutboxRepository.maxId();
+        Long snapshotMaxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(post_id), 0) FROM post WHERE post_type = ?", Long.class, type);
+
+        jobExecution.getExecutionContext().putLong(SNAPSHOT_MAX_ID, snapshotMaxId != null ? snapshotMaxId : 0L);
+        redisUtils.stringSet(RedisPaginationWriter.rebuildingKey(type), String.valueOf(watermark), REBUILD_HOLD_TTL);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        String type = jobExecution.getJobParameters().getString("post_type");
+
+        try {
+            if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+                // 기존 키가 그대로이므로 보류된 행은 기존 키에 반영하면 된다
+                log.warn("[{}] 페이징 커서 배치 미완료. 기존 커서 유지: {}", type, jobExecution.getStatus());
+                return;
+            }
+
+            String buildingKey = RedisPaginationWriter.buildingCursorKey(type);
+            if (!redisUtils.hasKey(buildingKey)) {
+                redisUtils.delete(RedisPaginationWriter.cursorKey(type));
+            } else {
+                redisUtils.rename(buildingKey, RedisPaginationWriter.cursorKey(type));
+            }
+
+            // 스냅샷 기준 전체 개수. 워터마크 이후 증감은 표시를 지운 뒤 PaginationCursorMaintainer 가 반영
+            // 분할 실행이면 워커 스텝도 함께 기록되므로 워커 합계가 모인 최상위 스텝만 센다
+            long total = jobExecution.getStepExecutions().stream()
+                    .filter(step -> PaginationCacheBatchConfig.CACHE_STEP.equals(step.getStepName())
+                            || PaginationCacheBatchConfig.PARTITIONED_CACHE_STEP.equals(step.getStepName()))
+                    .mapToLong(StepExecution::getReadCount)
+                    .sum();
+            redisUtils.stringSet(RedisPaginationWriter.totalKey(type), String.valueOf(total));
+            redisUtils.stringSet(RedisPaginationWriter.snapshotMaxIdKey(type),
+                    String.valueOf(jobExecution.getExecutionContext().getLong(SNAPSHOT_MAX_ID, 0L)));
+        } finally {
+            redisUtils.delete(RedisPaginationWriter.rebuildingKey(type));
+        }
+    }
+}
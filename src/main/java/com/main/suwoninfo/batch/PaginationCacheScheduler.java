@@ -1,6 +1,5 @@
 package com.main.suwoninfo.batch;
 
-import com.main.suwoninfo.utils.RedisUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -16,11 +15,11 @@ import org.springframework.stereotype.Component;
 public class PaginationCacheScheduler {
 
     private final JobLauncher jobLauncher;
-    private final Job job;
-    private final RedisUtils redisUtils;
+    private final Job paginationCacheJob;
 
 
-    @Scheduled(cron = "0 0 */4 * * *")
+    // 이정표는 PaginationCursorMaintainer 가 증분 유지하므로 전체 재구성은 주기적 검증용
+    @Scheduled(cron = "${pagination.cursor.verify-cron:0 0 4 * * *}")
     public void runPaginationCacheScheduler() {
 
         String[] postTypes = {"FREE", "TRADE"};
@@ -34,12 +33,9 @@ public class PaginationCacheScheduler {
                         .addLong("runTime", System.currentTimeMillis())
                         .toJobParameters();
 
-                jobLauncher.run(job, jobParameters);
+                jobLauncher.run(paginationCacheJob, jobParameters);
 
                 log.info("페이징 커서 배치 성공");
-                redisUtils.stringSet("new_FREE_posts_count", "0");
-                redisUtils.stringSet("new_TRADE_posts_count", "0");
-                redisUtils.zSetDelete("deleted:post:ids:" + postType);
             } catch (Exception e) {
                 log.error("페이징 커서 배치 실패 : {}", e.getMessage());
             }
@@ -0,0 +1,188 @@
+package com.main.suwoninfo.batch;
+
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.domain.PostOutbox;
+import com.main.suwoninfo.repository.PostOutboxRepository;
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이정표 커서 증분 유지 (아웃박스 릴레이)
+ * 게시글과 같은 트랜잭션에 기록된 post_outbox 를 짧은 주기로 읽어 Redis 에 반영하고 지운다
+ * - 생성: 전체 개수만 늘리고, 새 위치가 이정표 간격에 걸리면 이정표 추가 (연속된 생성은 파이프라인 한 번)
+ * - 삭제/이동: 해당 ID 보다 최신인 이정표만 위치를 하나씩 당기거나(-1) 민다(+1)
+ * 반영 후 삭제 전에 죽으면 같은 행을 다시 반영할 수 있다 (at-least-once)
+ * 생성은 최근 반영한 게시글 ID 를 기억해 다시 와도 건너뛰고, 삭제/이동의 중복 반영 오차는 주기적 전체 재구성이 바로잡는다
+ * 전체 재구성 중인 타입은 시작 워터마크 이후 행에서 멈추고(보류), 교체가 끝나 표시가 지워지면 새 키에 이어서 반영한다
+ */
+@Slf4j
+@Component
+public class PaginationCursorMaintainer {
+
+    private static final RedisScript<Long> ON_CREATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/pagination_on_create.lua"), Long.class);
+    private static final RedisScript<Long> ON_SHIFT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/pagination_on_shift.lua"), Long.class);
+
+    private static final String RELAY_LOCK_KEY = "LOCK:outbox:relay";
+    private static final long RELAY_LEASE_SECONDS = 30;
+    private static final int SHIFT_BATCH_SIZE = 500;
+    private static final int APPLIED_CREATES_KEEP = 10_000; // 재반영 판별용으로 기억할 최근 생성 ID 수
+
+    private final RedisUtils redisUtils;
+    private final PostOutboxRepository postOutboxRepository;
+    private final RedissonClient redissonClient;
+    private final int rowsPerCursor;
+    private final int relayBatchSize;
+
+    public PaginationCursorMaintainer(RedisUtils redisUtils,
+                                      PostOutboxRepository postOutboxRepository,
+                                      RedissonClient redissonClient,
+                                      @Value("${pagination.cursor.pages-per-cursor:1}") int pagesPerCursor,
+                                      @Value("${pagination.cursor.outbox-batch-size:500}") int relayBatchSize) {
+        this.redisUtils = redisUtils;
+        this.postOutboxRepository = postOutboxRepository;
+        this.redissonClient = redissonClient;
+        this.rowsPerCursor = RedisPaginationWriter.rowsPerCursor(pagesPerCursor);
+        this.relayBatchSize = relayBatchSize;
+    }
+
+    /**
+     * 아웃박스를 ID 순서대로 반영
+     * 여러 노드 중 하나만 릴레이하고, Redis 장애 시 멈춘 뒤 다음 주기에 같은 행부터 다시 시도한다
+     */
+    @Scheduled(fixedDelayString = "${pagination.cursor.maintain-delay-millis:200}")
+    public void drain() {
+        RLock lock = redissonClient.getLock(RELAY_LOCK_KEY);
+        try {
+            if (!lock.tryLock(0, RELAY_LEASE_SECONDS, TimeUnit.SECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.warn("아웃박스 릴레이 락 획득 실패: msg={}", e.getMessage());
+            return;
+        }
+
+        try {
+            List<PostOutbox> batch;
+            do {
+                batch = postOutboxRepository.findBatch(relayBatchSize);
+            } while (relay(batch) && batch.size() == relayBatchSize);
+        } catch (Exception e) {
+            log.warn("아웃박스 조회 실패: msg={}", e.getMessage());
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @return 배치 전체를 반영했으면 true
+     */
+    private boolean relay(List<PostOutbox> batch) {
+        List<Long> applied = new ArrayList<>();
+        List<PostOutbox> creates = new ArrayList<>();
+        Map<Post.PostType, Long> watermarks = new EnumMap<>(Post.PostType.class);
+        boolean completed = true;
+
+        try {
+            for (PostOutbox row : batch) {
+                if (isHeld(row, watermarks)) {
+                    // 재구성이 끝난 뒤 이 행부터 다시 읽는다
+                    completed = false;
+                    break;
+                }
+                if (row.getEventType() == PostOutbox.EventType.CREATED) {
+                    creates.add(row);
+                    continue;
+                }
+                applyCreates(creates, applied);
+                applyShift(row);
+                applied.add(row.getId());
+            }
+            applyCreates(creates, applied);
+        } catch (Exception e) {
+            log.warn("이정표 증분 반영 실패. 다음 주기에 재시도: applied={}, msg={}", applied.size(), e.getMessage());
+            completed = false;
+        }
+
+        postOutboxRepository.deleteByIds(applied);
+        return completed;
+    }
+
+    /**
+     * 행의 타입이 재구성 중이고 행이 시작 워터마크 이후이면 보류
+     */
+    private boolean isHeld(PostOutbox row, Map<Post.PostType, Long> watermarks) {
+        Long watermark = watermarks.computeIfAbsent(row.getPostType(), type -> {
+            String value = redisUtils.stringGet(RedisPaginationWriter.rebuildingKey(type.name()));
+            return (value != null) ? Long.parseLong(value) : Long.MAX_VALUE;
+        });
+        return row.getId() > watermark;
+    }
+
+    private void applyCreates(List<PostOutbox> creates, List<Long> applied) {
+        if (creates.isEmpty()) {
+            return;
+        }
+
+        // 같은 타입 키를 건드리는 생성이 섞여 있으므로 타입별로 나눠 순서대로 파이프라인
+        List<PostOutbox> remaining = new ArrayList<>(creates);
+        while (!remaining.isEmpty()) {
+            String type = remaining.get(0).getPostType().name();
+            List<List<String>> argsList = new ArrayList<>();
+            List<PostOutbox> sameType = new ArrayList<>();
+            for (PostOutbox row : remaining) {
+                if (row.getPostType().name().equals(type)) {
+                    argsList.add(List.of(String.valueOf(row.getPostId()), String.valueOf(rowsPerCursor),
+                            String.valueOf(APPLIED_CREATES_KEEP)));
+                    sameType.add(row);
+                }
+            }
+
+            redisUtils.pipelineScript(ON_CREATE_SCRIPT, createKeys(type), argsList);
+            sameType.forEach(row -> applied.add(row.getId()));
+            remaining.removeAll(sameType);
+        }
+        creates.clear();
+    }
+
+    private void applyShift(PostOutbox row) {
+        String type = row.getPostType().name();
+        String postId = String.valueOf(row.getPostId());
+        String delta = (row.getEventType() == PostOutbox.EventType.MOVED_IN) ? "1" : "-1";
+
+        long start = 0;
+        while (start >= 0) {
+            Long next = redisUtils.executeScript(ON_SHIFT_SCRIPT, keys(type),
+                    postId, String.valueOf(start), String.valueOf(SHIFT_BATCH_SIZE), delta);
+            start = (next != null) ? next : -1;
+        }
+    }
+
+    private List<String> createKeys(String type) {
+        return List.of(RedisPaginationWriter.totalKey(type), RedisPaginationWriter.cursorKey(type),
+                RedisPaginationWriter.appliedCreatesKey(type), RedisPaginationWriter.snapshotMaxIdKey(type));
+    }
+
+    private List<String> keys(String type) {
+        return List.of(RedisPaginationWriter.totalKey(type), RedisPaginationWriter.cursorKey(type));
+    }
+}
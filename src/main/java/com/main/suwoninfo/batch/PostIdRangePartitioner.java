@@ -0,0 +1,69 @@
+package com.main.suwoninfo.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 타입별 post_id 범위를 gridSize 개 구간으로 나눈다
+ * 각 구간의 게시글 수를 (post_type, post_id) 인덱스로 세어, 앞 구간들의 합을 해당 구간의 시작 seq 로 넘긴다
+ * 구간 끝은 PaginationCacheJobListener 가 잡 시작 때 기록한 스냅샷 MAX(post_id) 라서 그 이후 생성된 게시글은 읽지 않는다
+ * 그 게시글들은 재구성 동안 보류됐다가 교체 후 PaginationCursorMaintainer 가 새 키에 반영한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "min_id";
+    public static final String MAX_ID = "max_id";
+    public static final String BASE_SEQ = "base_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String type;
+    private final Long snapshotMaxId; // 잡 시작 시점 MAX(post_id), 없으면 지금 조회
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "SELECT MIN(post_id) AS min_id, MAX(post_id) AS max_id FROM post WHERE post_type = ?", type);
+        if (bounds.get(MIN_ID) == null) {
+            return partitions;
+        }
+
+        long minId = ((Number) bounds.get(MIN_ID)).longValue();
+        long maxId = (snapshotMaxId != null) ? snapshotMaxId : ((Number) bounds.get(MAX_ID)).longValue();
+        if (minId > maxId) {
+            return partitions;
+        }
+        long span = (maxId - minId) / gridSize + 1;
+
+        long baseSeq = 0;
+        for (int i = 0; i < gridSize; i++) {
+            long from = minId + span * i;
+            if (from > maxId) break;
+            long to = Math.min(maxId, from + span - 1);
+
+            Long count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM post WHERE post_type = ? AND post_id BETWEEN ? AND ?",
+                    Long.class, type, from, to);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, from);
+            context.putLong(MAX_ID, to);
+            context.putLong(BASE_SEQ, baseSeq);
+            partitions.put("partition" + i, context);
+
+            baseSeq += (count != null) ? count : 0;
+        }
+
+        log.info("[{}] 페이징 커서 배치 분할: partitions={}, rows={}", type, partitions.size(), baseSeq);
+        return partitions;
+    }
+}
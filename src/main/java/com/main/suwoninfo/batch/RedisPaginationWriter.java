@@ -3,14 +3,15 @@ package com.main.suwoninfo.batch;
 import com.main.suwoninfo.utils.RedisUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -18,27 +19,77 @@ import java.time.Duration;
 @Slf4j
 public class RedisPaginationWriter implements ItemWriter<Long> {
 
+    public static final int ITEMS_PER_PAGE = 10;
+
     private final RedisUtils redisUtils;
 
     @Value("#{jobParameters['post_type']}")
     private String type;
 
-    @Value("#{stepExecution}")
-    private StepExecution stepExecution;
+    @Value("#{stepExecutionContext['base_seq'] ?: 0L}")
+    private long baseSeq; // 분할 실행 시 이 파티션 앞 구간들의 게시글 수, 단일 스텝이면 0
+
+    private long written; // 이 스텝(파티션)에서 지금까지 쓴 게시글 수
 
-    private final int ITEMS_PER_PAGE = 10; // 몇 페이지 단위로 청크의 이정표를 세울지
+    @Value("${pagination.cursor.pages-per-cursor:1}")
+    private int pagesPerCursor; // 몇 페이지 단위로 이정표를 세울지
 
+    /**
+     * 오래된 게시글부터 읽으며 seq(오래된 쪽부터의 위치)가 이정표 간격에 걸리는 게시글을 타입별 ZSET 하나에 모은다
+     * seq 는 최신 게시글이 추가되어도 바뀌지 않으므로 이후에는 PaginationCursorMaintainer 가 증분으로 유지한다
+     * 배치 중에는 building 키에 쓰고, 잡이 끝나면 PaginationCacheJobListener 가 교체한다
+     */
     @Override
     public void write(Chunk<? extends  Long> chunk) {
         if(chunk.isEmpty()) return;
 
-        Long startCursorId = chunk.getItems().get(0);
-        long currentReadCount = stepExecution.getReadCount();
-        int startPageNum = (int) (currentReadCount / ITEMS_PER_PAGE) + 1;
+        // 스텝 실행마다 빈이 새로 만들어지므로 written 은 파티션 안에서의 위치
+        long firstSeq = baseSeq + written;
+        int rowsPerCursor = rowsPerCursor(pagesPerCursor);
+
+        List<? extends Long> items = chunk.getItems();
+        Map<String, Double> cursors = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            long seq = firstSeq + i;
+            if (seq % rowsPerCursor == 0) {
+                cursors.put(String.valueOf(items.get(i)), (double) seq);
+            }
+        }
+
+        if (!cursors.isEmpty()) {
+            redisUtils.zSetAddAll(buildingCursorKey(type), cursors);
+        }
+        written += items.size();
+    }
+
+    public static int rowsPerCursor(int pagesPerCursor) {
+        return ITEMS_PER_PAGE * pagesPerCursor;
+    }
+
+    public static String cursorKey(String type) {
+        return "pagination:cursors:" + type;
+    }
+
+    public static String buildingCursorKey(String type) {
+        return cursorKey(type) + ":building";
+    }
+
+    public static String totalKey(String type) {
+        return "pagination:total:" + type;
+    }
+
+    // 재구성 중 표시 (값 = 시작 시점 아웃박스 워터마크), 있는 동안 그 이후 아웃박스 행은 릴레이가 보류
+    public static String rebuildingKey(String type) {
+        return "pagination:rebuilding:" + type;
+    }
 
-        String redisKey = type + "_page:" + startPageNum;
+    // 마지막 재구성 스냅샷의 MAX(post_id), 이 이하 생성은 스냅샷에 이미 포함
+    public static String snapshotMaxIdKey(String type) {
+        return "pagination:snapshot:" + type;
+    }
 
-        //log.info("[{}] Saving Redis - Page: {}, CursorID: {}", type, startPageNum, startCursorId);
-        redisUtils.stringSet(redisKey, String.valueOf(startCursorId), Duration.ofMinutes(1440));
+    // 증분 유지가 이미 반영한 최근 생성 게시글 ID
+    public static String appliedCreatesKey(String type) {
+        return "pagination:applied:" + type;
     }
 }
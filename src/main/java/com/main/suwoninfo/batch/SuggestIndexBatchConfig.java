@@ -0,0 +1,69 @@
+package com.main.suwoninfo.batch;
+
+import com.main.suwoninfo.search.SuggestIndex;
+import com.main.suwoninfo.search.TitleSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 자동완성 trie 재구성 배치
+ * 제목 색인 배치와 같은 리더(postTitleReader)로 제목을 읽어 단어 빈도를 세고, 잡이 끝나면 제목 trie 를 교체한다
+ * 지난 검색어는 SuggestIndex 가 따로 갱신한다
+ */
+@Slf4j
+@Configuration
+public class SuggestIndexBatchConfig {
+
+    private final int CHUNK_SIZE = 1000;
+
+    @Bean
+    public Job suggestIndexJob(JobRepository jobRepository,
+                               Step suggestIndexStep,
+                               SuggestIndex suggestIndex) {
+        return new JobBuilder("SuggestIndexJob", jobRepository)
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void beforeJob(JobExecution jobExecution) {
+                        suggestIndex.beginRebuild();
+                    }
+
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+                            log.warn("자동완성 배치 미완료. 기존 trie 유지: {}", jobExecution.getStatus());
+                            suggestIndex.abortRebuild();
+                            return;
+                        }
+                        suggestIndex.completeRebuild();
+                    }
+                })
+                .start(suggestIndexStep)
+                .build();
+    }
+
+    @Bean
+    public Step suggestIndexStep(JobRepository jobRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 ItemReader<TitleSearchIndex.Entry> postTitleReader,
+                                 SuggestIndex suggestIndex) {
+
+        return new StepBuilder("suggestIndexStep", jobRepository)
+                .<TitleSearchIndex.Entry, TitleSearchIndex.Entry>chunk(CHUNK_SIZE, transactionManager)
+                .reader(postTitleReader)
+                .writer(chunk -> suggestIndex.addTitles(chunk.getItems().stream()
+                        .map(TitleSearchIndex.Entry::title)
+                        .toList()))
+                .build();
+    }
+}
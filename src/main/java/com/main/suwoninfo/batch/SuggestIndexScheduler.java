@@ -0,0 +1,33 @@
+package com.main.suwoninfo.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SuggestIndexScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job suggestIndexJob;
+
+    // 새 게시글 제목을 반영하기 위한 주기적 재구성 (전체 제목을 읽으므로 드물게)
+    @Scheduled(cron = "${search.suggest.rebuild-cron:0 45 */6 * * *}")
+    public void runSuggestIndexScheduler() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("runTime", System.currentTimeMillis())
+                    .toJobParameters();
+
+            jobLauncher.run(suggestIndexJob, jobParameters);
+        } catch (Exception e) {
+            log.error("자동완성 배치 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.main.suwoninfo.batch;
+
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.search.TitleSearchIndex;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 제목 메모리 색인 재구성 배치
+ * post 테이블 전체를 post_id 순으로 읽어 TitleSearchIndex 의 새 색인에 넣고, 잡이 끝나면 교체한다
+ */
+@Configuration
+public class TitleIndexBatchConfig {
+
+    private final int CHUNK_SIZE = 1000;
+
+    @Bean
+    public Job titleIndexJob(JobRepository jobRepository,
+                             Step titleIndexStep,
+                             TitleIndexJobListener titleIndexJobListener) {
+        return new JobBuilder("TitleIndexJob", jobRepository)
+                .listener(titleIndexJobListener)
+                .start(titleIndexStep)
+                .build();
+    }
+
+    @Bean
+    public Step titleIndexStep(JobRepository jobRepository,
+                               PlatformTransactionManager transactionManager,
+                               ItemReader<TitleSearchIndex.Entry> postTitleReader,
+                               TitleIndexWriter titleIndexWriter) {
+
+        return new StepBuilder("titleIndexStep", jobRepository)
+                .<TitleSearchIndex.Entry, TitleSearchIndex.Entry>chunk(CHUNK_SIZE, transactionManager)
+                .reader(postTitleReader)
+                .writer(titleIndexWriter)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<TitleSearchIndex.Entry> postTitleReader(DataSource dataSource) throws Exception {
+        SqlPagingQueryProviderFactoryBean queryProvider = new SqlPagingQueryProviderFactoryBean();
+        queryProvider.setDataSource(dataSource);
+
+        queryProvider.setSelectClause("SELECT post_id, post_type, title");
+        queryProvider.setFromClause("FROM post");
+
+        Map<String, Order> sortKeys = new LinkedHashMap<>();
+        sortKeys.put("post_id", Order.ASCENDING); // ID 목록 뒤에 붙이기만 하도록 오래된 게시글부터
+        queryProvider.setSortKeys(sortKeys);
+
+        return new JdbcPagingItemReaderBuilder<TitleSearchIndex.Entry>()
+                .name("postTitleReader")
+                .pageSize(CHUNK_SIZE)
+                .dataSource(dataSource)
+                .queryProvider(queryProvider.getObject())
+                .rowMapper((rs, rowNum) -> new TitleSearchIndex.Entry(
+                        rs.getLong("post_id"),
+                        Post.PostType.valueOf(rs.getString("post_type")),
+                        rs.getString("title")))
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.main.suwoninfo.batch;
+
+import com.main.suwoninfo.search.TitleSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제목 색인 배치 전후 처리
+ * 배치가 끝까지 성공했을 때만 새 색인으로 교체하고, 실패하면 기존 색인을 유지한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleIndexJobListener implements JobExecutionListener {
+
+    private final TitleSearchIndex titleSearchIndex;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        titleSearchIndex.beginRebuild();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("제목 색인 배치 미완료. 기존 색인 유지: {}", jobExecution.getStatus());
+            titleSearchIndex.abortRebuild();
+            return;
+        }
+        titleSearchIndex.completeRebuild();
+    }
+}
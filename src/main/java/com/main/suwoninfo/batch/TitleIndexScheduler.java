@@ -0,0 +1,41 @@
+package com.main.suwoninfo.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TitleIndexScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job titleIndexJob;
+
+    @Value("${search.title-index.enabled:true}")
+    private boolean titleIndexEnabled;
+
+    // 변경 메시지를 놓친 노드가 따라잡도록 주기적으로 재구성
+    @Scheduled(cron = "${search.title-index.rebuild-cron:0 15 */6 * * *}")
+    public void runTitleIndexScheduler() {
+        if (!titleIndexEnabled) {
+            return;
+        }
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("runTime", System.currentTimeMillis())
+                    .addString("trigger", "SCHEDULED")
+                    .toJobParameters();
+
+            jobLauncher.run(titleIndexJob, jobParameters);
+        } catch (Exception e) {
+            log.error("제목 색인 배치 실패 : {}", e.getMessage());
+        }
+    }
+}
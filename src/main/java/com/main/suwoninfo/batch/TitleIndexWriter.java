@@ -0,0 +1,21 @@
+package com.main.suwoninfo.batch;
+
+import com.main.suwoninfo.search.TitleSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+@Component
+@RequiredArgsConstructor
+public class TitleIndexWriter implements ItemWriter<TitleSearchIndex.Entry> {
+
+    private final TitleSearchIndex titleSearchIndex;
+
+    @Override
+    public void write(Chunk<? extends TitleSearchIndex.Entry> chunk) {
+        titleSearchIndex.addAll(new ArrayList<>(chunk.getItems()));
+    }
+}
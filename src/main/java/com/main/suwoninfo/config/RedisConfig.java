@@ -4,7 +4,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.jwt.TokenBlacklist;
+import com.main.suwoninfo.redis.PostCacheInvalidationListener;
+import com.main.suwoninfo.redis.PostNearCache;
 import com.main.suwoninfo.redis.RedisConnectedEvent;
+import com.main.suwoninfo.search.TitleSearchIndex;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.event.connection.ConnectionActivatedEvent;
 import io.lettuce.core.resource.ClientResources;
@@ -27,6 +31,8 @@ import org.springframework.data.redis.connection.lettuce.LettuceClientConfigurat
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -93,6 +99,20 @@ public class RedisConfig {
         return new StringRedisTemplate(cf);
     }
 
+    //로컬 캐시 무효화, 토큰 블랙리스트 등록, 제목 색인 변경 메시지 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory cf,
+                                                                       PostCacheInvalidationListener postCacheInvalidationListener,
+                                                                       TokenBlacklist tokenBlacklist,
+                                                                       TitleSearchIndex titleSearchIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(postCacheInvalidationListener, new ChannelTopic(PostNearCache.INVALIDATION_TOPIC));
+        container.addMessageListener(tokenBlacklist, new ChannelTopic(TokenBlacklist.TOPIC));
+        container.addMessageListener(titleSearchIndex, new ChannelTopic(TitleSearchIndex.CHANGE_TOPIC));
+        return container;
+    }
+
     @Bean
     public CacheManager cacheManager(LettuceConnectionFactory cf) {
         RedisCacheConfiguration cfg = RedisCacheConfiguration.defaultCacheConfig()
@@ -4,6 +4,9 @@ import com.main.suwoninfo.jwt.CustomAuthenticationProvider;
 import com.main.suwoninfo.jwt.JwtAuthenticationEntryPoint;
 import com.main.suwoninfo.jwt.JwtSecurityConfig;
 import com.main.suwoninfo.jwt.JwtTokenProvider;
+import com.main.suwoninfo.jwt.TokenBlacklist;
+import com.main.suwoninfo.jwt.TokenReissuer;
+import com.main.suwoninfo.jwt.VerifiedTokenCache;
 import com.main.suwoninfo.service.CustomUserDetailService;
 import com.main.suwoninfo.utils.RedisUtils;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +22,6 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.web.client.RestClient;
 
 /**
  * 비밀번호 인코더와 권한 설정에 대한 Config
@@ -32,10 +34,12 @@ public class SecurityConfig {
 
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
     private final CustomUserDetailService customUserDetailsService;
     private final PasswordEncoder passwordEncoder;
     private final RedisUtils redisUtils;
-    private final RestClient restClient;
+    private final TokenReissuer tokenReissuer;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
@@ -51,6 +55,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/post/search?**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/post/new").permitAll()
                         .requestMatchers(HttpMethod.POST, "/post/new").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/post/suggest").permitAll()
                         .requestMatchers(HttpMethod.GET, "/actuator/**").permitAll()
                         .requestMatchers("/css/**", "/js/**", "/img/**", "/favicon.ico", "/error").permitAll() //정적파일
                         .anyRequest().authenticated() // 인증 되지 않는 사용자일 경우 모든 요청을 Spring Security 에서 가로챔(설정한 url을 제외한 url은 이 설정을 적용할 예정)
@@ -67,7 +72,7 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement((session) -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .with(new JwtSecurityConfig(tokenProvider, redisUtils, restClient), Customizer.withDefaults());
+                .with(new JwtSecurityConfig(tokenProvider, verifiedTokenCache, tokenBlacklist, redisUtils, tokenReissuer), Customizer.withDefaults());
                 /*.cors((cors) -> cors
                         .configurationSource(corsConfigurationSource()));*/
 
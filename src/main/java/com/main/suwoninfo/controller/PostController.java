@@ -3,16 +3,23 @@ package com.main.suwoninfo.controller;
 import com.main.suwoninfo.domain.Photo;
 import com.main.suwoninfo.domain.Post;
 import com.main.suwoninfo.domain.User;
+import com.main.suwoninfo.dto.PostPageResponse;
 import com.main.suwoninfo.dto.PostRequest;
 import com.main.suwoninfo.dto.PostResponse;
+import com.main.suwoninfo.redis.SearchResultCache;
+import com.main.suwoninfo.search.SuggestIndex;
 import com.main.suwoninfo.service.PhotoService;
+import com.main.suwoninfo.service.PostCountService;
 import com.main.suwoninfo.service.PostFacade;
+import com.main.suwoninfo.service.PostSearchFacade;
 import com.main.suwoninfo.service.PostService;
 import com.main.suwoninfo.service.UserService;
 import com.main.suwoninfo.utils.CommonUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -35,12 +42,18 @@ import static com.main.suwoninfo.utils.ToUtils.toPostResponse;
 public class PostController {
 
     private final PostService postService;
+    private final PostCountService postCountService;
+    private final PostSearchFacade postSearchFacade;
+    private final SuggestIndex suggestIndex;
     private final PostFacade postFacade;
     private final UserService userService;
     private final PhotoService photoService;
 
     private static final int PAGE_SIZE = 10;
 
+    @Value("${cache.page-blob.enabled:false}")
+    private boolean pageBlobEnabled; // 페이지 JSON 을 캐시된 그대로 응답
+
 
     // 게시글 작성
     @PostMapping("/new")
@@ -89,23 +102,39 @@ public class PostController {
     }
 
     @GetMapping("/list")
-    public ResponseEntity<?> joinList(@RequestParam(defaultValue = "1") Integer page, @RequestParam Post.PostType type) throws InterruptedException {
+    public ResponseEntity<?> joinList(@RequestParam(defaultValue = "1") Integer page, @RequestParam Post.PostType type,
+                                      @RequestParam(required = false) String cursor) throws Exception {
+
+        // 커서 모드: 마지막으로 본 게시글 다음부터 키셋 조회
+        if (cursor != null) {
+            PostPageResponse postPage = postService.findByCursor(PAGE_SIZE, type, cursor);
+            return ResponseEntity.status(HttpStatus.OK).body(postPage);
+        }
 
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
-        if (page == null) {
+        if (page == null || page < 1) {
             String message = "빈 객체 반환";
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
         }
 
         int pageIndex = page - 1;
 
-        List<PostResponse> postList = postFacade.findPostList(10, pageIndex, type);
-        int totalCount = postService.countPost(type);
+        // 블롭 모드: 캐시된 JSON 바이트를 역직렬화 없이 그대로 응답
+        if (pageBlobEnabled) {
+            byte[] body = postFacade.findPostListBlob(PAGE_SIZE, page, type);
+            if (isOutOfRange(type, pageIndex)) {
+                return ResponseEntity.ok(null);
+            }
+            return ResponseEntity.status(HttpStatus.OK)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+
+        List<PostResponse> postList = postFacade.findPostList(10, page, type);
         //int totalCount = postService.countTradePost();
-        int totalPage = (totalCount + PAGE_SIZE - 1) / PAGE_SIZE;
 
-        if (totalPage == 0 || pageIndex >= totalPage) {
+        if (isOutOfRange(type, pageIndex)) {
             return ResponseEntity.ok(null);
         }
 
@@ -121,6 +150,12 @@ public class PostController {
         return ResponseEntity.status(HttpStatus.OK).body(postList);
     }
 
+    private boolean isOutOfRange(Post.PostType type, int pageIndex) {
+        int totalCount = postCountService.count(type);
+        int totalPage = (totalCount + PAGE_SIZE - 1) / PAGE_SIZE;
+        return totalPage == 0 || pageIndex >= totalPage;
+    }
+
     @GetMapping("/view/{postId}")
     public ResponseEntity<?> view(@PathVariable Long postId) {
 
@@ -149,17 +184,39 @@ public class PostController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<?> search(@RequestParam String keyword, @RequestParam int page, @RequestParam Post.PostType type) {
+    public ResponseEntity<?> search(@RequestParam String keyword, @RequestParam(defaultValue = "1") int page,
+                                    @RequestParam Post.PostType type, @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "false") boolean titleOnly) {
 
-        int pageNum = (page - 1) * 10;
-        List<PostResponse> postList = postService.searchPost(keyword, 10, pageNum, type);
-        int totalPage = postService.countPost(type);
-        int countPage = totalPage / 10;
-        if (totalPage % 10 > 0)
-            countPage += 1;
+        if (page < 1) {
+            String message = "빈 객체 반환";
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(message);
+        }
+
+        // 제목 검색: 메모리 색인, 최신순
+        if (titleOnly) {
+            PostPageResponse postPage = postService.searchTitle(keyword, PAGE_SIZE, (page - 1) * PAGE_SIZE, type, cursor);
+            return ResponseEntity.status(HttpStatus.OK).body(postPage);
+        }
+
+        // 커서 모드: 마지막으로 본 결과의 (관련도, ID) 다음부터 조회
+        if (cursor != null) {
+            PostPageResponse postPage = postService.searchByCursor(keyword, PAGE_SIZE, type, cursor);
+            return ResponseEntity.status(HttpStatus.OK).body(postPage);
+        }
+
+        // 전체 게시글 수가 아니라 검색 결과 수 기준 (search.fulltext.max-count 까지만 센다)
+        SearchResultCache.SearchPage result = postSearchFacade.search(keyword, PAGE_SIZE, page, type);
+        long countPage = (result.totalCount() + PAGE_SIZE - 1) / PAGE_SIZE;
 
         return ResponseEntity.status(HttpStatus.OK)
                 .header("total-pages", String.valueOf(countPage))
-                .body(postList);
+                .header("total-count", String.valueOf(result.totalCount()))
+                .body(result.posts());
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.status(HttpStatus.OK).body(suggestIndex.suggest(prefix, limit));
     }
 }
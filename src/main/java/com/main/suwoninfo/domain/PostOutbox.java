@@ -0,0 +1,43 @@
+package com.main.suwoninfo.domain;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 변경 아웃박스
+ * 게시글과 같은 트랜잭션에서 기록되고, PaginationCursorMaintainer 가 순서대로 읽어 Redis 에 반영한 뒤 지운다
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "post_outbox")
+public class PostOutbox {
+
+    @Id
+    @Column(name = "outbox_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    private Long postId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private Post.PostType postType;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private EventType eventType;
+
+    public enum EventType {
+        CREATED,  // 새 게시글 (가장 최신)
+        DELETED,  // 삭제 또는 다른 타입으로 이동해 나감
+        MOVED_IN  // 다른 타입에서 이동해 들어옴 (중간 위치)
+    }
+}
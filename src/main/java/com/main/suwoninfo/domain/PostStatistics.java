@@ -8,7 +8,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 
+/**
+ * 타입별 게시글 수 (타입당 여러 슬롯 행으로 나눠 기록, 합계가 전체 개수)
+ * 한 행에 쓰기가 몰려 행 락을 기다리지 않도록 쓰기마다 슬롯을 골라 더한다
+ */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_post_statistics_type_slot", columnNames = {"post_type", "slot"}))
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,19 +23,13 @@ public class PostStatistics {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @NotNull @ColumnDefault("0")
+    @ColumnDefault("0")
     private int count;
 
     @NotNull
     @Enumerated(EnumType.STRING)
     private Post.PostType postType;
 
-
-    public void addCount() {
-        this.count++;
-    }
-
-    public void minusCount() {
-        this.count--;
-    }
+    @ColumnDefault("0")
+    private int slot;
 }
@@ -0,0 +1,11 @@
+package com.main.suwoninfo.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record PostPageResponse(
+        List<PostResponse> posts,
+        String nextCursor
+) { }
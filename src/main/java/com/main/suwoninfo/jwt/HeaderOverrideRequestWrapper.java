@@ -0,0 +1,42 @@
+package com.main.suwoninfo.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.util.*;
+
+/**
+ * 헤더를 덮어쓰는 요청 래퍼
+ * 재발급한 Access Token 으로 Authorization 헤더를 바꿔 다음 필터로 넘길 때 쓴다
+ * 본문은 건드리지 않으므로 멀티파트 업로드도 원본 스트림 그대로 흘러간다
+ */
+public class HeaderOverrideRequestWrapper extends HttpServletRequestWrapper {
+
+    private final Map<String,String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    public HeaderOverrideRequestWrapper(HttpServletRequest request, Map<String,String> extra) {
+        super(request);
+        if (extra != null) headers.putAll(extra);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        String v = headers.get(name);
+        if (v != null) return v;
+        return super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        List<String> names = Collections.list(super.getHeaderNames());
+        for (String k : headers.keySet()) if (!names.contains(k)) names.add(k);
+        return Collections.enumeration(names);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        // 덮어쓴 헤더는 원래 값을 함께 내보내지 않는다
+        if (headers.containsKey(name)) return Collections.enumeration(List.of(headers.get(name)));
+        return super.getHeaders(name);
+    }
+}
@@ -5,14 +5,11 @@ import com.main.suwoninfo.utils.RedisUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.RestClient;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -22,8 +19,10 @@ import java.util.Map;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
     private final RedisUtils redisUtils;
-    private final RestClient restClient;
+    private final TokenReissuer tokenReissuer;
 
     private boolean isReissue(HttpServletRequest req) {
         return "POST".equals(req.getMethod()) && req.getRequestURI().endsWith("/users/reissue");
@@ -33,33 +32,46 @@ public class JwtFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
-        // request는 한번 읽은 뒤엔 읽는 것이 불가능하므로 래퍼 클래스로 옮겨서 읽음
-        HttpServletRequestWrapper requestWrapper = new CachingBodyRequestWrapper(request);
-        String token = resolveToken(requestWrapper);
+        // 필터는 본문을 읽지 않으므로 감싸지 않고 넘긴다 (업로드 본문이 힙에 복사되지 않게)
+        String token = resolveToken(request);
 
         if (isReissue(request)) {
-            filterChain.doFilter(requestWrapper, response);
+            filterChain.doFilter(request, response);
             return;
         }
 
         try {
             if (token != null) {
-                if (tokenProvider.validateToken(token).getValid()) {
-                    // 유효한 토큰 처리
-                    Authentication authentication = tokenProvider.getAuthentication(token);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    System.out.println("Authentication set: " + authentication.getName());
-                } else if (tokenProvider.isTokenExpired(token)) {
-                    // Access Token 만료 시 처리
-                    handleExpiredToken(requestWrapper, response, token, filterChain);
-                    return;
+                Authentication cached = verifiedTokenCache.get(token);
+                if (cached != null) {
+                    // 이미 검증된 토큰: 서명 검증/파싱 생략, 블랙리스트만 확인
+                    if (tokenBlacklist.isBlacklisted(token)) {
+                        verifiedTokenCache.invalidate(token);
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN");
+                        return;
+                    }
+                    SecurityContextHolder.getContext().setAuthentication(cached);
                 } else {
-                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN");
-                    return;
+                    // 요청당 한 번만 파싱하고 결과를 인증 객체 생성까지 공유
+                    TokenValidationResult result = tokenProvider.validateToken(token);
+                    if (result.getValid()) {
+                        // 유효한 토큰 처리
+                        Authentication authentication = tokenProvider.getAuthentication(result);
+                        verifiedTokenCache.put(token, authentication, result.getExpiresAtMillis());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        System.out.println("Authentication set: " + authentication.getName());
+                    } else if (result.isExpired()) {
+                        // Access Token 만료 시 처리
+                        handleExpiredToken(request, response, result, filterChain);
+                        return;
+                    } else {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN");
+                        return;
+                    }
                 }
             }
             // 필터 체인을 계속 진행
-            filterChain.doFilter(requestWrapper, response);
+            filterChain.doFilter(request, response);
 
         } catch (Exception e) {
             // 예외 발생 시 처리
@@ -67,9 +79,10 @@ public class JwtFilter extends OncePerRequestFilter {
         }
     }
 
-    private void handleExpiredToken(HttpServletRequestWrapper request, HttpServletResponse response, String expiredToken, FilterChain filterChain)
+    private void handleExpiredToken(HttpServletRequest request, HttpServletResponse response,
+                                    TokenValidationResult expiredResult, FilterChain filterChain)
             throws IOException {
-        Authentication authentication = tokenProvider.getAuthentication(expiredToken);
+        Authentication authentication = tokenProvider.getAuthentication(expiredResult);
 
         if (authentication == null) {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN");
@@ -89,26 +102,14 @@ public class JwtFilter extends OncePerRequestFilter {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "INVALID_TOKEN");
             return;
         }
-        TokenResponse tokenResponse = TokenResponse.builder()
-                .tokenType("Bearer")
-                .refreshToken(refreshToken)
-                .accessToken(expiredToken)
-                .build();
 
-
-        // http 탈취 후 new-access-token이란 이름으로 헤더 주입
+        // 같은 프로세스에서 바로 재발급 (루프백 HTTP 호출 없이, 같은 만료 토큰의 동시 요청은 한 번만 발급)
         try {
-            TokenResponse tokenEntity = restClient
-                    .post()
-                    .uri("http://localhost:8081/users/reissue")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(tokenResponse)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .retrieve()
-                    .body(TokenResponse.class);
+            TokenResponse tokenEntity = tokenReissuer.reissue(authentication, refreshToken);
             Map<String, String> mutatedRequestHeader = Map.of("Authorization", "Bearer " + tokenEntity.accessToken());
             response.setHeader("New-Access-Token", tokenEntity.accessToken());
-            filterChain.doFilter(new CachingBodyRequestWrapper(request, mutatedRequestHeader), response);
+            // 헤더만 바꾸고 본문은 원본 스트림 그대로
+            filterChain.doFilter(new HeaderOverrideRequestWrapper(request, mutatedRequestHeader), response);
 
         } catch (Exception e) {
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "token generation failed");
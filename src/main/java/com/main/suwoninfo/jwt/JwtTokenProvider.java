@@ -1,7 +1,6 @@
 package com.main.suwoninfo.jwt;
 
 import com.main.suwoninfo.dto.TokenResponse;
-import com.main.suwoninfo.utils.RedisUtils;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -28,18 +27,20 @@ public class JwtTokenProvider implements InitializingBean {
 
     private final String secret;
     private Key key;
-    private final RedisUtils redisUtils;
+    private JwtParser parser; // 불변이라 스레드 간 공유
+    private final TokenBlacklist tokenBlacklist;
 
 
     @Override
     public void afterPropertiesSet() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, RedisUtils redisUtils) {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey, TokenBlacklist tokenBlacklist) {
         this.secret = secretKey;
-        this.redisUtils = redisUtils;
+        this.tokenBlacklist = tokenBlacklist;
     }
 
     // 유저 정보를 가지고 AccessToken, RefreshToken 을 생성하는 메서드
@@ -74,10 +75,17 @@ public class JwtTokenProvider implements InitializingBean {
 
     // JWT 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
     public Authentication getAuthentication(String accessToken) {
-        // 토큰 복호화
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parse(accessToken));
+    }
+
+    /**
+     * 이미 파싱한 결과로 인증 객체 생성 (다시 파싱하지 않음)
+     * 만료된 토큰도 클레임이 있으면 생성된다
+     */
+    public Authentication getAuthentication(TokenValidationResult result) {
+        Claims claims = result.getClaims();
 
-        if (claims.get("auth") == null) {
+        if (claims == null || claims.get("auth") == null) {
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
 
@@ -91,23 +99,31 @@ public class JwtTokenProvider implements InitializingBean {
         return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 
-    // 토큰 정보를 검증하는 메서드
+    // 토큰 정보를 검증하는 메서드 (파싱 + 블랙리스트 확인)
     public TokenValidationResult validateToken(String token) {
+        TokenValidationResult result = parse(token);
+        if (result.getValid() && tokenBlacklist.isBlacklisted(token)) {
+            log.info("Token In Blacklist");
+            return TokenValidationResult.builder()
+                    .valid(false)
+                    .tokenErrorReason(TokenValidationResult.TokenErrorReason.IN_BLACKLIST)
+                    .claims(result.getClaims())
+                    .build();
+        }
+        return result;
+    }
+
+    /**
+     * 서명 검증과 클레임 파싱을 한 번만 수행
+     * 만료된 토큰은 valid=false, EXPIRED 이고 클레임은 그대로 담긴다
+     */
+    public TokenValidationResult parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            if(redisUtils.hasKeyBlackList(token)) {
-                log.info("Token In Blacklist");
-                return TokenValidationResult.builder()
-                        .valid(false)
-                        .tokenErrorReason(TokenValidationResult.TokenErrorReason.IN_BLACKLIST)
-                        .build();
-            }
+            Claims claims = parser.parseClaimsJws(token).getBody();
             return TokenValidationResult.builder()
                     .valid(true)
                     .tokenErrorReason(TokenValidationResult.TokenErrorReason.VALID)
+                    .claims(claims)
                     .build();
 
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
@@ -117,10 +133,11 @@ public class JwtTokenProvider implements InitializingBean {
                     .tokenErrorReason(TokenValidationResult.TokenErrorReason.INVALID)
                     .build();
         } catch (ExpiredJwtException e) {
-            log.info("Expired JWT Token", e);
+            log.info("Expired JWT Token: {}", e.getMessage());
             return TokenValidationResult.builder()
                     .valid(false)
                     .tokenErrorReason(TokenValidationResult.TokenErrorReason.EXPIRED)
+                    .claims(e.getClaims())
                     .build();
         } catch (UnsupportedJwtException e) {
             log.info("Unsupported JWT Token", e);
@@ -137,23 +154,7 @@ public class JwtTokenProvider implements InitializingBean {
         }
     }
 
-    private Claims parseClaims(String accessToken) {
-        try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
-        }
-    }
-
     public boolean isTokenExpired(String token) {
-        try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-        } catch (ExpiredJwtException e) {
-            return true;
-        }
-        return false;
+        return parse(token).isExpired();
     }
 }
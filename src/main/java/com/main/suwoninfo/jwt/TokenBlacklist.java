@@ -0,0 +1,137 @@
+package com.main.suwoninfo.jwt;
+
+import com.main.suwoninfo.utils.RedisUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 로그아웃된 Access Token 블랙리스트 (로컬 블룸 필터 → Redis)
+ * 필터에 없으면 Redis 를 거치지 않고 통과시키고, 있다고 할 때만 블랙리스트 키를 확인한다
+ * 등록은 다이제스트를 blacklist:digests(점수 = 만료 시각)에 남기고 채널로 발행해 모든 노드 필터에 바로 넣는다
+ * 발행을 놓친 노드도 sync-millis 마다 ZSET 으로 필터를 다시 만들어 따라잡는다
+ * 첫 동기화 전에는 모든 확인을 Redis 로 보낸다
+ * ZSET 기록 이전에 등록된 블랙리스트 키는 필터에 없으므로, 기록을 시작한 뒤 MAX_TTL 이 지나
+ * 그런 키가 모두 만료될 때까지도 필터를 쓰지 않고 Redis 로만 확인한다
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String TOPIC = "jwt:blacklist";
+    public static final Duration MAX_TTL = Duration.ofMinutes(120); // 블랙리스트 키의 최대 TTL
+    private static final String DIGESTS_KEY = "blacklist:digests";
+    private static final String DIGESTS_SINCE_KEY = "blacklist:digests:since"; // ZSET 기록을 시작한 시각
+    private static final String BLACKLIST_VALUE = "accessToken";
+
+    private final RedisUtils redisUtils;
+    private final MeterRegistry meterRegistry;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile TokenBloomFilter filter;
+    private volatile TokenBloomFilter building; // 재구성 중 들어온 등록도 새 필터에 넣는다
+
+    public TokenBlacklist(RedisUtils redisUtils,
+                          MeterRegistry meterRegistry,
+                          @Value("${jwt.blacklist.expected-insertions:100000}") long expectedInsertions,
+                          @Value("${jwt.blacklist.fpp:0.001}") double fpp) {
+        this.redisUtils = redisUtils;
+        this.meterRegistry = meterRegistry;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+    }
+
+    public void add(String token, Duration ttl) {
+        byte[] digest = TokenDigest.sha256(token);
+        String encoded = TokenDigest.encode(digest);
+
+        redisUtils.setBlackList(token, BLACKLIST_VALUE, ttl);
+        redisUtils.zSetAddAll(DIGESTS_KEY, Map.of(encoded, (double) (System.currentTimeMillis() + ttl.toMillis())));
+        putLocal(digest);
+
+        try {
+            redisUtils.publish(TOPIC, encoded);
+        } catch (Exception e) {
+            // 다른 노드는 다음 동기화 때 반영된다
+            log.warn("블랙리스트 등록 메시지 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    public boolean isBlacklisted(String token) {
+        TokenBloomFilter current = filter;
+        if (current != null && !current.mightContain(TokenDigest.sha256(token))) {
+            recordCheck("filter_negative");
+            return false;
+        }
+
+        boolean blacklisted = redisUtils.hasKeyBlackList(token);
+        recordCheck(current == null ? "not_ready" : (blacklisted ? "redis_hit" : "false_positive"));
+        return blacklisted;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            putLocal(TokenDigest.decode(body));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 블랙리스트 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 만료된 다이제스트를 지우고 남은 것으로 필터를 새로 만들어 교체
+     * 블룸 필터는 삭제가 안 되므로 재구성으로만 비운다
+     */
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sync-millis:60000}")
+    public void sync() {
+        try {
+            long now = System.currentTimeMillis();
+            redisUtils.stringSetIfAbsent(DIGESTS_SINCE_KEY, String.valueOf(now));
+            String since = redisUtils.stringGet(DIGESTS_SINCE_KEY);
+            boolean complete = since != null && now - Long.parseLong(since) >= MAX_TTL.toMillis();
+
+            redisUtils.zSetRemoveRangeByScore(DIGESTS_KEY, 0, now);
+            long size = redisUtils.zSetGetCount(DIGESTS_KEY, 0L, Long.MAX_VALUE);
+
+            TokenBloomFilter rebuilt = new TokenBloomFilter(Math.max(expectedInsertions, size * 2), fpp);
+            building = rebuilt;
+            Set<String> digests = redisUtils.zSetRange(DIGESTS_KEY, 0, -1);
+            digests.forEach(encoded -> rebuilt.put(TokenDigest.decode(encoded)));
+            // ZSET 이 모든 살아있는 블랙리스트 키를 담기 전에는 필터를 쓰지 않는다
+            filter = complete ? rebuilt : null;
+
+            log.debug("블랙리스트 필터 재구성: size={}, active={}", digests.size(), complete);
+        } catch (Exception e) {
+            // 기존 필터와 발행 메시지로 계속 동작한다
+            log.warn("블랙리스트 필터 동기화 실패: {}", e.getMessage());
+        } finally {
+            building = null;
+        }
+    }
+
+    private void putLocal(byte[] digest) {
+        TokenBloomFilter next = building;
+        if (next != null) {
+            next.put(digest);
+        }
+        TokenBloomFilter current = filter;
+        if (current != null) {
+            current.put(digest);
+        }
+    }
+
+    private void recordCheck(String result) {
+        meterRegistry.counter("jwt.blacklist.check", "result", result).increment();
+    }
+}
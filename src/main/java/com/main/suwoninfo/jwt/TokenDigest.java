@@ -0,0 +1,36 @@
+package com.main.suwoninfo.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 쓰는 SHA-256 다이제스트
+ * 로컬 캐시 키와 블랙리스트 필터/동기화에 같은 값을 쓴다
+ */
+final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String encode(byte[] digest) {
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    static byte[] decode(String encoded) {
+        return Base64.getDecoder().decode(encoded);
+    }
+
+    static String of(String token) {
+        return encode(sha256(token));
+    }
+}
@@ -0,0 +1,116 @@
+package com.main.suwoninfo.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.main.suwoninfo.dto.TokenResponse;
+import com.main.suwoninfo.exception.CustomException;
+import com.main.suwoninfo.exception.UserErrorCode;
+import com.main.suwoninfo.lock.SingleFlight;
+import com.main.suwoninfo.utils.RedisUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 만료된 Access Token 재발급 (JwtFilter 와 /users/reissue 공용)
+ * 같은 사용자의 동시 재발급은 SingleFlight 로 한 번만 실행하고 (RT:{email} 을 한 번만 교체),
+ * 결과는 result-ttl-millis 동안 사용자별로 캐시해 몰린 요청이 토큰을 여러 개 만들지 않게 한다
+ * 캐시는 발급에 쓴 Refresh Token 이나 새로 받은 Refresh Token 을 들고 온 요청에만 돌려준다
+ */
+@Component
+public class TokenReissuer {
+
+    private static final String METRIC_CACHE_NAME = "jwt.reissue";
+    private static final Duration REFRESH_TOKEN_TTL = Duration.ofMinutes(1440);
+
+    private final JwtTokenProvider tokenProvider;
+    private final RedisUtils redisUtils;
+    private final SingleFlight<String, Reissued> singleFlight = new SingleFlight<>();
+    private final Cache<String, Reissued> recent;
+
+    public TokenReissuer(JwtTokenProvider tokenProvider,
+                         RedisUtils redisUtils,
+                         MeterRegistry meterRegistry,
+                         @Value("${jwt.reissue.result-ttl-millis:5000}") long resultTtlMillis,
+                         @Value("${jwt.reissue.maximum-size:10000}") long maximumSize) {
+        this.tokenProvider = tokenProvider;
+        this.redisUtils = redisUtils;
+        this.recent = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(resultTtlMillis))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recent, METRIC_CACHE_NAME);
+    }
+
+    public TokenResponse reissue(String requestAccessToken, String requestRefreshToken) {
+        // 만료 토큰은 한 번만 파싱해 사용자 키와 발급에 함께 쓴다
+        return reissue(tokenProvider.getAuthentication(requestAccessToken), requestRefreshToken);
+    }
+
+    /**
+     * 만료 토큰을 이미 파싱한 경우 (JwtFilter) 그 인증 정보로 바로 재발급
+     */
+    public TokenResponse reissue(Authentication authentication, String requestRefreshToken) {
+        String key = authentication.getName();
+
+        Reissued cached = recent.getIfPresent(key);
+        if (cached != null && cached.matches(requestRefreshToken)) {
+            return cached.tokenResponse();
+        }
+
+        Reissued reissued = singleFlight.execute(key, () -> {
+            // 앞선 발급이 방금 끝났으면 그 결과를 쓴다
+            Reissued done = recent.getIfPresent(key);
+            if (done != null && done.matches(requestRefreshToken)) {
+                return done;
+            }
+            Reissued fresh = new Reissued(requestRefreshToken, issue(authentication, requestRefreshToken));
+            recent.put(key, fresh);
+            return fresh;
+        });
+
+        if (!reissued.matches(requestRefreshToken)) {
+            // 같은 사용자가 다른 Refresh Token 으로 진행 중이던 발급을 받은 경우
+            throw new CustomException(UserErrorCode.TOKEN_MISMATCH_BETWEEN_CLIENT_AND_SERVER);
+        }
+        return reissued.tokenResponse();
+    }
+
+    private TokenResponse issue(Authentication authentication, String requestRefreshToken) {
+        if (!tokenProvider.validateToken(requestRefreshToken).getValid()) {
+            throw new CustomException(UserErrorCode.INVALID_USER_TOKEN);
+        }
+
+        Optional<String> refreshTokenOptional =
+                Optional.ofNullable((String) redisUtils.get("RT:" + authentication.getName()));
+        String refreshToken = refreshTokenOptional.orElseThrow(() -> new CustomException(UserErrorCode.REFRESH_TOKEN_NOT_FOUND_IN_REDIS));
+
+        if (!tokenProvider.validateToken(refreshToken).getValid()) {
+            redisUtils.delete("RT:" + authentication.getName());
+            throw new CustomException(UserErrorCode.REFRESH_TOKEN_EXPIRED);
+        }
+
+        if (!requestRefreshToken.equals(refreshToken)) {
+            throw new CustomException(UserErrorCode.TOKEN_MISMATCH_BETWEEN_CLIENT_AND_SERVER);
+        }
+
+        TokenResponse tokenResponse = tokenProvider.generateToken(authentication);
+        redisUtils.delete(tokenResponse.refreshToken());
+        redisUtils.set("RT:" + authentication.getName(), tokenResponse.refreshToken(), REFRESH_TOKEN_TTL);
+
+        return tokenResponse;
+    }
+
+    private record Reissued(String usedRefreshToken, TokenResponse tokenResponse) {
+
+        boolean matches(String refreshToken) {
+            return usedRefreshToken.equals(refreshToken) || tokenResponse.refreshToken().equals(refreshToken);
+        }
+    }
+}
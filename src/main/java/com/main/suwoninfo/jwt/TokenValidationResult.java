@@ -1,5 +1,6 @@
 package com.main.suwoninfo.jwt;
 
+import io.jsonwebtoken.Claims;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,6 +14,21 @@ public class TokenValidationResult {
 
     private Boolean valid;
     private TokenErrorReason tokenErrorReason;
+    private Claims claims; // 서명이 맞는 토큰이면 클레임 (만료 포함), 아니면 null
+
+    public boolean isExpired() {
+        return tokenErrorReason == TokenErrorReason.EXPIRED;
+    }
+
+    /**
+     * 만료 시각 (epoch millis), 클레임이나 만료 정보가 없으면 0
+     */
+    public long getExpiresAtMillis() {
+        if (claims == null || claims.getExpiration() == null) {
+            return 0;
+        }
+        return claims.getExpiration().getTime();
+    }
 
     public enum TokenErrorReason {
         VALID,
@@ -0,0 +1,73 @@
+package com.main.suwoninfo.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 Access Token 로컬 캐시
+ * 키는 토큰 원문 대신 SHA-256 다이제스트, 값은 인증 객체이며 토큰의 exp 시각에 만료된다
+ * 같은 토큰으로 다시 요청하면 서명 검증과 클레임 파싱 없이 인증 객체를 재사용한다
+ * 적중률은 cache.gets{cache=jwt.verified} 로 확인한다
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String METRIC_CACHE_NAME = "jwt.verified";
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_CACHE_NAME);
+    }
+
+    /**
+     * @return 검증된 토큰이면 인증 객체, 아니면 null
+     */
+    public Authentication get(String token) {
+        VerifiedToken verified = cache.getIfPresent(TokenDigest.of(token));
+        return verified == null ? null : verified.authentication();
+    }
+
+    public void put(String token, Authentication authentication, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(TokenDigest.of(token), new VerifiedToken(authentication, expiresAtMillis));
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(TokenDigest.of(token));
+    }
+
+    private record VerifiedToken(Authentication authentication, long expiresAtMillis) {}
+}
@@ -0,0 +1,58 @@
+package com.main.suwoninfo.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 네임스페이스별 값 직렬화 선택
+ * 설정되지 않은 네임스페이스는 generalRedisTemplate 과 같은 JSON 직렬화를 쓴다
+ */
+@Component
+public class CacheSerializers {
+
+    public static final String POST = "post"; // v1:post:{id}
+
+    private final RedisSerializer<Object> json;
+    private final Map<String, RedisSerializer<Object>> byNamespace = new HashMap<>();
+
+    public CacheSerializers(ObjectMapper objectMapper,
+                            @Value("${cache.serializer.post:compact}") String postFormat,
+                            @Value("${cache.serializer.compress-threshold:1024}") int compressThreshold) {
+        this.json = new GenericJackson2JsonRedisSerializer(objectMapper);
+
+        PostResponseCompactSerializer compact = new PostResponseCompactSerializer(compressThreshold);
+        byNamespace.put(POST, new FormatSniffingSerializer("compact".equalsIgnoreCase(postFormat) ? compact : json, compact, json));
+    }
+
+    public RedisSerializer<Object> forNamespace(String namespace) {
+        return byNamespace.getOrDefault(namespace, json);
+    }
+
+    /**
+     * 쓰기는 설정된 형식으로, 읽기는 첫 바이트로 형식을 판별
+     * 형식을 바꿔도 TTL 이 끝나기 전의 기존 값을 그대로 읽을 수 있다
+     */
+    private record FormatSniffingSerializer(RedisSerializer<Object> writer,
+                                            RedisSerializer<Object> compact,
+                                            RedisSerializer<Object> json) implements RedisSerializer<Object> {
+
+        @Override
+        public byte[] serialize(Object value) throws SerializationException {
+            return writer.serialize(value);
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) throws SerializationException {
+            return PostResponseCompactSerializer.isCompact(bytes)
+                    ? compact.deserialize(bytes)
+                    : json.deserialize(bytes);
+        }
+    }
+}
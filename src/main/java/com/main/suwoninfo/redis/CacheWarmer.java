@@ -1,13 +1,14 @@
 package com.main.suwoninfo.redis;
 
 import com.main.suwoninfo.domain.Post;
-import com.main.suwoninfo.service.PostService;
+import com.main.suwoninfo.service.PostCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
@@ -17,18 +18,23 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class CacheWarmer {
 
-    private final PostService postService;
+    private final PostCountService postCountService;
 
     private final JobLauncher jobLauncher;
     private final Job paginationCacheJob;
+    private final Job titleIndexJob;
+    private final Job suggestIndexJob;
+
+    @Value("${search.title-index.enabled:true}")
+    private boolean titleIndexEnabled;
 
     @EventListener(ApplicationReadyEvent.class) // 서버 뜰 때 실행
     public void warmUp() {
         log.info("[Warm-up] 실제 데이터 로딩 시작...");
 
         try {
-            postService.countPost(Post.PostType.FREE);
-            postService.countPost(Post.PostType.TRADE);
+            postCountService.count(Post.PostType.FREE);
+            postCountService.count(Post.PostType.TRADE);
 
             JobParameters freeJobParameters = new JobParametersBuilder()
                     .addLong("runTime", System.currentTimeMillis())
@@ -51,5 +57,26 @@ public class CacheWarmer {
         } catch (Exception e) {
             log.error("웜업 실패", e);
         }
+
+        // 제목 메모리 색인은 Redis 와 무관하게 따로 적재
+        if (titleIndexEnabled) {
+            try {
+                jobLauncher.run(titleIndexJob, new JobParametersBuilder()
+                        .addLong("runTime", System.currentTimeMillis())
+                        .addString("trigger", "WARM_UP")
+                        .toJobParameters());
+            } catch (Exception e) {
+                log.error("제목 색인 적재 실패", e);
+            }
+        }
+
+        try {
+            jobLauncher.run(suggestIndexJob, new JobParametersBuilder()
+                    .addLong("runTime", System.currentTimeMillis())
+                    .addString("trigger", "WARM_UP")
+                    .toJobParameters());
+        } catch (Exception e) {
+            log.error("자동완성 적재 실패", e);
+        }
     }
 }
\ No newline at end of file
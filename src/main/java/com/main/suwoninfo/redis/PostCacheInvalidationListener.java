@@ -0,0 +1,56 @@
+package com.main.suwoninfo.redis;
+
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 변경 시 로컬 캐시 무효화 전파
+ * 커밋 이후 Redis 채널로 "TYPE:postId" 를 발행하고, 모든 노드는 구독한 메시지로 자기 L1 을 지운다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCacheInvalidationListener implements MessageListener {
+
+    private static final String CACHE_VERSION = "v1";
+
+    private final PostNearCache postNearCache;
+    private final RedisUtils redisUtils;
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        // 발행이 실패해도 자기 노드는 바로 지운다
+        postNearCache.invalidate(event.getPostType(), buildVersionedPostKey(event.getPostId()));
+
+        try {
+            redisUtils.publish(PostNearCache.INVALIDATION_TOPIC, event.getPostType() + ":" + event.getPostId());
+        } catch (Exception e) {
+            log.warn("로컬 캐시 무효화 메시지 발행 실패: type={}, postId={}", event.getPostType(), event.getPostId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":");
+
+        if (parts.length != 2) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+            return;
+        }
+
+        postNearCache.invalidate(Post.PostType.valueOf(parts[0]), buildVersionedPostKey(Long.valueOf(parts[1])));
+    }
+
+    private String buildVersionedPostKey(Long postId) {
+        return redisUtils.versionedKey(CACHE_VERSION, "post:" + postId);
+    }
+}
@@ -0,0 +1,135 @@
+package com.main.suwoninfo.redis;
+
+import com.main.suwoninfo.batch.RedisPaginationWriter;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.dto.PostResponse;
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 변경 시 Redis 캐시 직접 갱신 (write-through)
+ * 커밋 이후 게시글 값(v1:post:{id})은 새 값으로 쓰거나 지우고,
+ * 캐시된 페이지 ID 목록은 ids_patch.lua 로 끼워 넣기/빼기만 해서 재구성이 일어나지 않게 한다
+ * 스크립트 비용을 묶기 위해 앞쪽 MAX_REGISTERED_PAGES 페이지만 등록되고, 한 번에 MAX_PATCHED_PAGES 페이지까지만 고친다
+ * 로컬 캐시 무효화보다 먼저 실행되도록 순서를 앞에 둔다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCacheWriter {
+
+    private static final RedisScript<Long> IDS_PATCH_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/ids_patch.lua"), Long.class);
+
+    private static final String CACHE_VERSION = "v1";
+    private static final Duration POST_TTL = Duration.ofHours(1);
+    private static final int PAGE_SIZE = RedisPaginationWriter.ITEMS_PER_PAGE;
+    private static final int MAX_PATCHED_PAGES = 20;
+    private static final int PATCH_ATTEMPTS = 3;
+
+    // 고칠 대상으로 등록하는 최대 페이지 번호 (그보다 깊은 페이지는 짧은 TTL 로만 캐시)
+    public static final int MAX_REGISTERED_PAGES = 100;
+    // 등록 목록 TTL (ID 목록 TTL 보다 길게 두고 등록할 때마다 연장)
+    public static final Duration REGISTRY_TTL = Duration.ofMinutes(5);
+
+    private final RedisUtils redisUtils;
+    private final CacheSerializers cacheSerializers;
+
+    @Order(0)
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        try {
+            switch (event.getChangeType()) {
+                case CREATED -> {
+                    writeThrough(event.getPost());
+                    patchIds(event.getPostType(), "insert", event.getPostId());
+                }
+                case UPDATED -> {
+                    writeThrough(event.getPost());
+                    // 타입이 바뀐 경우 이전 타입 목록에서 빼고 새 타입 목록에 넣는다
+                    if (event.isTypeChanged()) {
+                        String mode = (event.getPostType() == event.getPreviousType()) ? "remove" : "insert";
+                        patchIds(event.getPostType(), mode, event.getPostId());
+                    }
+                }
+                case DELETED -> {
+                    redisUtils.delete(buildVersionedKey("post:" + event.getPostId()));
+                    patchIds(event.getPostType(), "remove", event.getPostId());
+                }
+            }
+        } catch (Exception e) {
+            // 갱신에 실패해도 TTL 과 보충/재구성 경로가 결국 바로잡는다
+            log.warn("게시글 캐시 갱신 실패: type={}, postId={}, change={}",
+                    event.getPostType(), event.getPostId(), event.getChangeType(), e);
+        }
+    }
+
+    private void writeThrough(PostResponse post) {
+        if (post == null) {
+            return;
+        }
+        redisUtils.pipelineSet(Map.of(buildVersionedKey("post:" + post.postId()), post), POST_TTL,
+                cacheSerializers.forNamespace(CacheSerializers.POST));
+    }
+
+    /**
+     * 등록된 페이지 번호를 읽어 그 페이지 키를 KEYS 로 넘기고,
+     * 그 사이 새 페이지가 등록되어 스크립트가 -1 을 돌려주면 다시 읽어서 호출한다
+     */
+    private void patchIds(Post.PostType type, String mode, Long postId) {
+        String pagesKey = pagesKey(type, PAGE_SIZE);
+
+        for (int attempt = 0; attempt < PATCH_ATTEMPTS; attempt++) {
+            List<String> keys = new ArrayList<>();
+            List<String> args = new ArrayList<>(List.of(mode, String.valueOf(postId),
+                    String.valueOf(PAGE_SIZE), String.valueOf(MAX_PATCHED_PAGES)));
+
+            keys.add(pagesKey);
+            for (String page : redisUtils.zSetRange(pagesKey, 0, -1)) {
+                int pageNo = Integer.parseInt(page);
+                keys.add(idsKey(type, pageNo, PAGE_SIZE));
+                keys.add(blobKey(type, pageNo, PAGE_SIZE));
+                args.add(page);
+            }
+
+            Long patched = redisUtils.executeScript(IDS_PATCH_SCRIPT, keys, args.toArray(String[]::new));
+            if (patched != null && patched >= 0) {
+                log.debug("페이지 ID 목록 갱신: type={}, mode={}, postId={}, pages={}", type, mode, postId, patched);
+                return;
+            }
+        }
+
+        log.warn("페이지 ID 목록 갱신 포기 (등록 페이지 변경 경합): type={}, mode={}, postId={}", type, mode, postId);
+    }
+
+    /**
+     * 페이지 ID 목록 키
+     * 타입을 해시 태그로 묶어 같은 타입의 목록/블롭/등록 키가 한 슬롯에 모이게 한다
+     */
+    private String idsKey(Post.PostType type, int page, int limit) {
+        return buildVersionedKey(String.format("posts:ids:{%s}:page:%d:size:%d", type, page, limit));
+    }
+
+    private String blobKey(Post.PostType type, int page, int limit) {
+        return buildVersionedKey(String.format("posts:blob:{%s}:page:%d:size:%d", type, page, limit));
+    }
+
+    private String pagesKey(Post.PostType type, int limit) {
+        return buildVersionedKey(String.format("posts:ids:{%s}:size:%d:pages", type, limit));
+    }
+
+    private String buildVersionedKey(String key) {
+        return redisUtils.versionedKey(CACHE_VERSION, key);
+    }
+}
@@ -0,0 +1,52 @@
+package com.main.suwoninfo.redis;
+
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.dto.PostResponse;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트
+ * 트랜잭션 커밋 이후 캐시 무효화/갱신에 사용
+ * 타입이 바뀐 수정은 이전 타입과 새 타입으로 한 번씩 발행된다
+ */
+@Getter
+public class PostChangedEvent extends ApplicationEvent {
+
+    private final Long postId;
+    private final Post.PostType postType;
+    private final ChangeType changeType;
+    private final PostResponse post; // 변경 후 게시글 (삭제 시 null)
+    private final Post.PostType previousType; // 수정 전 타입 (수정이 아니면 null)
+    private final String previousTitle; // 수정/삭제 전 제목 (생성이면 null)
+
+    public PostChangedEvent(Object source, Long postId, Post.PostType postType, ChangeType changeType) {
+        this(source, postId, postType, changeType, null, null);
+    }
+
+    public PostChangedEvent(Object source, Long postId, Post.PostType postType, ChangeType changeType,
+                            PostResponse post, Post.PostType previousType) {
+        this(source, postId, postType, changeType, post, previousType, null);
+    }
+
+    public PostChangedEvent(Object source, Long postId, Post.PostType postType, ChangeType changeType,
+                            PostResponse post, Post.PostType previousType, String previousTitle) {
+        super(source);
+        this.postId = postId;
+        this.postType = postType;
+        this.changeType = changeType;
+        this.post = post;
+        this.previousType = previousType;
+        this.previousTitle = previousTitle;
+    }
+
+    public boolean isTypeChanged() {
+        return previousType != null && post != null && previousType != post.postType();
+    }
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
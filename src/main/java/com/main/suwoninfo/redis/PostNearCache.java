@@ -0,0 +1,172 @@
+package com.main.suwoninfo.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.dto.PostResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Redis 게시글 캐시 앞단의 로컬(L1) 캐시
+ * 키는 Redis 와 같은 버전 키(v1:posts:ids:..., v1:post:{id})를 그대로 사용하고
+ * 크기와 TTL 로 제한하며, 게시글 변경 시 Redis pub/sub 으로 모든 노드에서 무효화된다
+ * 페이지/블롭은 Redis/DB 읽기를 시작할 때의 타입별 세대를 함께 저장하고, 무효화는 세대만 올려 O(1) 로 끝낸다
+ * (세대가 지난 항목은 조회 때 미스로 처리하고 지우며, 남은 것은 TTL/크기 제한으로 빠진다)
+ * 읽는 도중 무효화가 끼어들면 세대가 달라지므로 적재하지 않는다
+ */
+@Component
+@Slf4j
+public class PostNearCache {
+
+    public static final String INVALIDATION_TOPIC = "post:cache:invalidate";
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Object> cache;
+    private final Map<Post.PostType, AtomicLong> generations = new EnumMap<>(Post.PostType.class);
+
+    public PostNearCache(MeterRegistry meterRegistry,
+                         @Value("${cache.near.maximum-size:10000}") long maximumSize,
+                         @Value("${cache.near.ttl-millis:5000}") long ttlMillis) {
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .removalListener((String key, Object value, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && value != null) {
+                        recordCacheAttempt(typeOf(value), "near_eviction");
+                    }
+                })
+                .build();
+        for (Post.PostType type : Post.PostType.values()) {
+            generations.put(type, new AtomicLong());
+        }
+    }
+
+    /**
+     * 페이지 단위 조회
+     * @param idsKey 게시글 ID 목록 키
+     * @param type 게시글 타입
+     * @return ID 목록과 모든 게시글이 로컬에 있으면 게시글 목록, 하나라도 없으면 null
+     */
+    public List<PostResponse> getPage(String idsKey, Post.PostType type) {
+        if (!(cache.getIfPresent(idsKey) instanceof CachedPage page) || isStale(idsKey, page.type(), page.generation())) {
+            recordCacheAttempt(type, "near_miss");
+            return null;
+        }
+
+        List<PostResponse> result = new ArrayList<>(page.postKeys().size());
+        for (String postKey : page.postKeys()) {
+            if (!(cache.getIfPresent(postKey) instanceof PostResponse post)) {
+                recordCacheAttempt(type, "near_miss");
+                return null;
+            }
+            result.add(post);
+        }
+
+        recordCacheAttempt(type, "near_hit");
+        return result;
+    }
+
+    /**
+     * 페이지 적재
+     * @param generation 읽기 시작 전에 얻은 {@link #currentGeneration(Post.PostType)}
+     * @param postKeys 게시글 키 목록 (posts 와 같은 순서)
+     * @param posts 게시글 목록
+     */
+    public void putPage(String idsKey, Post.PostType type, long generation, List<String> postKeys, List<PostResponse> posts) {
+        if (postKeys.size() != posts.size() || generation != currentGeneration(type)) {
+            return;
+        }
+
+        for (int i = 0; i < postKeys.size(); i++) {
+            cache.put(postKeys.get(i), posts.get(i));
+        }
+        cache.put(idsKey, new CachedPage(type, generation, List.copyOf(postKeys)));
+
+        // 적재하는 사이 무효화되었으면 방금 넣은 게시글도 뺀다 (페이지는 조회 때 세대로 걸러짐)
+        if (generation != currentGeneration(type)) {
+            cache.invalidateAll(postKeys);
+        }
+    }
+
+    /**
+     * 페이지 블롭 조회
+     * @return 직렬화된 페이지 JSON, 없으면 null
+     */
+    public byte[] getBlob(String blobKey, Post.PostType type) {
+        if (!(cache.getIfPresent(blobKey) instanceof CachedBlob blob) || isStale(blobKey, blob.type(), blob.generation())) {
+            recordCacheAttempt(type, "near_miss");
+            return null;
+        }
+
+        recordCacheAttempt(type, "near_hit");
+        return blob.body();
+    }
+
+    /**
+     * @param generation 읽기 시작 전에 얻은 {@link #currentGeneration(Post.PostType)}
+     */
+    public void putBlob(String blobKey, Post.PostType type, long generation, byte[] body) {
+        if (generation != currentGeneration(type)) {
+            return;
+        }
+        cache.put(blobKey, new CachedBlob(type, generation, body));
+    }
+
+    /**
+     * 게시글 하나와 해당 타입의 모든 페이지(블롭 포함)를 무효화
+     * 게시글 추가/삭제 시 뒤쪽 페이지가 모두 밀리기 때문에 타입 단위로 지운다
+     */
+    public void invalidate(Post.PostType type, String postKey) {
+        cache.invalidate(postKey);
+        generations.get(type).incrementAndGet();
+        log.debug("로컬 캐시 무효화: type={}, key={}", type, postKey);
+    }
+
+    /**
+     * 타입별 세대 (Redis/DB 에서 읽기 전에 얻어 두었다가 적재할 때 넘긴다)
+     */
+    public long currentGeneration(Post.PostType type) {
+        return generations.get(type).get();
+    }
+
+    private boolean isStale(String key, Post.PostType type, long generation) {
+        if (generation == currentGeneration(type)) {
+            return false;
+        }
+        cache.invalidate(key);
+        return true;
+    }
+
+    private Post.PostType typeOf(Object value) {
+        if (value instanceof CachedPage page) {
+            return page.type();
+        }
+        if (value instanceof CachedBlob blob) {
+            return blob.type();
+        }
+        return ((PostResponse) value).postType();
+    }
+
+    private void recordCacheAttempt(Post.PostType type, String result) {
+        meterRegistry.counter("cache.attempt",
+                "type", String.valueOf(type),
+                "result", result
+        ).increment();
+    }
+
+    private record CachedPage(Post.PostType type, long generation, List<String> postKeys) {}
+
+    private record CachedBlob(Post.PostType type, long generation, byte[] body) {}
+}
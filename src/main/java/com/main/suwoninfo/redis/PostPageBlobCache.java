@@ -0,0 +1,79 @@
+package com.main.suwoninfo.redis;
+
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 페이지 블롭 캐시
+ * 응답으로 나갈 페이지 JSON 을 byte[] 그대로 저장해 조회 시 역직렬화/재직렬화를 생략한다
+ * 게시글마다 자신이 포함된 블롭 키를 역색인(v1:post:{id}:blobs)으로 기록해 두고
+ * 게시글이 수정/삭제되면 그 게시글이 들어 있는 블롭만 지운다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostPageBlobCache {
+
+    private static final String CACHE_VERSION = "v1";
+
+    private final RedisUtils redisUtils;
+
+    public byte[] get(String blobKey) {
+        return redisUtils.getBytes(blobKey);
+    }
+
+    /**
+     * 블롭 저장
+     * 역색인은 블롭보다 먼저 써서, 블롭만 있고 역색인이 없는 순간이 생기지 않게 한다
+     * @param postIds 블롭에 들어 있는 게시글 ID
+     */
+    public void put(String blobKey, List<Long> postIds, byte[] blob, Duration ttl) {
+        Map<String, String> index = new LinkedHashMap<>();
+        for (Long postId : postIds) {
+            index.put(buildIndexKey(postId), blobKey);
+        }
+
+        redisUtils.pipelineSetAdd(index, ttl);
+        redisUtils.setBytes(blobKey, blob, ttl);
+    }
+
+    /**
+     * 게시글이 포함된 블롭 무효화
+     * 생성은 기존 블롭 내용을 바꾸지 않으므로 제외 (페이지 밀림은 ID 목록과 같이 TTL 로 정리)
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getChangeType() == PostChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+
+        try {
+            evictContaining(event.getPostId());
+        } catch (Exception e) {
+            log.warn("페이지 블롭 무효화 실패: postId={}", event.getPostId(), e);
+        }
+    }
+
+    public void evictContaining(Long postId) {
+        String indexKey = buildIndexKey(postId);
+        Set<String> blobKeys = redisUtils.setMembers(indexKey);
+
+        List<String> toDelete = new ArrayList<>(blobKeys);
+        toDelete.add(indexKey);
+        redisUtils.pipelineDelete(toDelete);
+    }
+
+    private String buildIndexKey(Long postId) {
+        return redisUtils.versionedKey(CACHE_VERSION, "post:" + postId + ":blobs");
+    }
+}
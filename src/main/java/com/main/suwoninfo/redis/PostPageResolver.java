@@ -0,0 +1,70 @@
+package com.main.suwoninfo.redis;
+
+import com.main.suwoninfo.batch.RedisPaginationWriter;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 페이지 번호를 이정표 커서와 offset 으로 해석
+ * 전체 개수, 이정표 ZSET, ID 목록을 Lua 스크립트 하나로 읽어 한 번의 왕복으로 끝낸다
+ * (스크립트는 SHA 로 캐시되어 EVALSHA 로 실행되고, 서버에 없으면 EVAL 로 다시 적재된다)
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPageResolver {
+
+    private static final RedisScript<List> PAGE_RESOLVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/page_resolve.lua"), List.class);
+
+    private final RedisUtils redisUtils;
+
+    public PageResolution resolve(Post.PostType type, int page, String idsKey) {
+        List<String> keys = List.of(
+                RedisPaginationWriter.totalKey(type.name()),
+                RedisPaginationWriter.cursorKey(type.name()),
+                idsKey
+        );
+
+        List<String> result = redisUtils.executeScript(PAGE_RESOLVE_SCRIPT, keys,
+                String.valueOf(page), String.valueOf(RedisPaginationWriter.ITEMS_PER_PAGE));
+
+        if (result == null || result.isEmpty() || "missing".equals(result.get(0))) {
+            throw new IllegalStateException("페이지 이정표 커서가 없습니다. type=" + type + ", page=" + page);
+        }
+
+        if ("empty".equals(result.get(0))) {
+            return PageResolution.empty();
+        }
+
+        return new PageResolution(false,
+                Integer.parseInt(result.get(1)),
+                Integer.parseInt(result.get(2)),
+                Long.parseLong(result.get(3)),
+                result.subList(4, result.size()));
+    }
+
+    /**
+     * @param empty 전체 게시글 수를 넘어선 페이지
+     * @param pageId 이정표 커서 (게시글 ID, 0 이면 가장 최신 게시글부터)
+     * @param pagingOffset 커서에서 건너뛸 게시글 수
+     * @param idsTtl ID 목록 키의 남은 TTL (초)
+     * @param ids 캐시된 ID 목록 (없으면 빈 리스트)
+     */
+    public record PageResolution(
+            boolean empty,
+            int pageId,
+            int pagingOffset,
+            long idsTtl,
+            List<String> ids
+    ) {
+        static PageResolution empty() {
+            return new PageResolution(true, 0, 0, -2L, List.of());
+        }
+    }
+}
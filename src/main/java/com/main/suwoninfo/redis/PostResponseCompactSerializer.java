@@ -0,0 +1,254 @@
+package com.main.suwoninfo.redis;
+
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.dto.PhotoResponse;
+import com.main.suwoninfo.dto.PostResponse;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * PostResponse 전용 바이너리 직렬화
+ * 필드 이름 없이 정해진 순서(스키마)로만 기록하고, 본문이 threshold 바이트를 넘으면 Deflate 로 압축한다
+ *
+ * 형식: [MAGIC][flags][원본 길이(압축 시)][본문]
+ * 본문: [SCHEMA_VERSION][postId][title][content][price][postType][tradeStatus][photos]
+ * enum 은 ordinal 로 기록하므로 enum 순서나 필드 순서를 바꾸면 SCHEMA_VERSION 을 올린다
+ */
+public class PostResponseCompactSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC = (byte) 0xC1; // JSON 값('{', '[', '"')과 겹치지 않는 첫 바이트
+    private static final byte SCHEMA_VERSION = 1;
+    private static final byte FLAG_DEFLATED = 0x01;
+
+    private final int compressThreshold;
+
+    public PostResponseCompactSerializer(int compressThreshold) {
+        this.compressThreshold = compressThreshold;
+    }
+
+    /**
+     * 바이너리 형식으로 기록된 값인지 확인 (이전 JSON 값과 구분)
+     */
+    public static boolean isCompact(byte[] bytes) {
+        return bytes != null && bytes.length > 1 && bytes[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof PostResponse post)) {
+            throw new SerializationException("PostResponse 만 직렬화할 수 있습니다: " + value.getClass());
+        }
+
+        try {
+            byte[] body = writeBody(post);
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(body.length + 8);
+            DataOutputStream out = new DataOutputStream(bos);
+            out.writeByte(MAGIC);
+
+            if (body.length > compressThreshold) {
+                out.writeByte(FLAG_DEFLATED);
+                out.writeInt(body.length);
+                out.write(deflate(body));
+            } else {
+                out.writeByte(0);
+                out.write(body);
+            }
+            return bos.toByteArray();
+
+        } catch (IOException e) {
+            throw new SerializationException("PostResponse 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!isCompact(bytes)) {
+            throw new SerializationException("바이너리 형식이 아닌 값입니다");
+        }
+
+        try {
+            byte[] body;
+            if ((bytes[1] & FLAG_DEFLATED) != 0) {
+                int length = ((bytes[2] & 0xFF) << 24) | ((bytes[3] & 0xFF) << 16)
+                        | ((bytes[4] & 0xFF) << 8) | (bytes[5] & 0xFF);
+                body = inflate(bytes, 6, length);
+            } else {
+                body = new byte[bytes.length - 2];
+                System.arraycopy(bytes, 2, body, 0, body.length);
+            }
+            return readBody(body);
+
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("PostResponse 역직렬화 실패", e);
+        }
+    }
+
+    private byte[] writeBody(PostResponse post) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+        DataOutputStream out = new DataOutputStream(bos);
+
+        out.writeByte(SCHEMA_VERSION);
+        writeLong(out, post.postId());
+        writeString(out, post.title());
+        writeString(out, post.content());
+        writeInt(out, post.price());
+        writeEnum(out, post.postType());
+        writeEnum(out, post.tradeStatus());
+
+        List<PhotoResponse> photos = post.photos();
+        out.writeInt(photos == null ? -1 : photos.size());
+        if (photos != null) {
+            for (PhotoResponse photo : photos) {
+                writeLong(out, photo.photoId());
+                writeString(out, photo.origFileName());
+                writeString(out, photo.filePath());
+                writeLong(out, photo.fileSize());
+            }
+        }
+        return bos.toByteArray();
+    }
+
+    private PostResponse readBody(byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+
+        byte version = in.readByte();
+        if (version != SCHEMA_VERSION) {
+            throw new IOException("지원하지 않는 스키마 버전: " + version);
+        }
+
+        Long postId = readLong(in);
+        String title = readString(in);
+        String content = readString(in);
+        Integer price = readInt(in);
+        Post.PostType postType = readEnum(in, Post.PostType.values());
+        Post.TradeStatus tradeStatus = readEnum(in, Post.TradeStatus.values());
+
+        int photoCount = in.readInt();
+        List<PhotoResponse> photos = null;
+        if (photoCount >= 0) {
+            photos = new ArrayList<>(photoCount);
+            for (int i = 0; i < photoCount; i++) {
+                photos.add(PhotoResponse.builder()
+                        .photoId(readLong(in))
+                        .origFileName(readString(in))
+                        .filePath(readString(in))
+                        .fileSize(readLong(in))
+                        .build());
+            }
+        }
+
+        return PostResponse.builder()
+                .postId(postId)
+                .title(title)
+                .content(content)
+                .price(price)
+                .postType(postType)
+                .tradeStatus(tradeStatus)
+                .photos(photos)
+                .build();
+    }
+
+    private void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeLong(value);
+    }
+
+    private Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private void writeInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeInt(value);
+    }
+
+    private Integer readInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    // writeUTF 는 64KB 제한이 있어 TEXT 본문을 담지 못하므로 길이 + UTF-8 바이트로 기록
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        out.writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    private <E extends Enum<E>> E readEnum(DataInputStream in, E[] values) throws IOException {
+        byte ordinal = in.readByte();
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    private byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(body.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                bos.write(buffer, 0, n);
+            }
+            return bos.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] bytes, int offset, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] body = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(body, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 잘렸습니다");
+                }
+                read += n;
+            }
+            return body;
+        } finally {
+            inflater.end();
+        }
+    }
+}
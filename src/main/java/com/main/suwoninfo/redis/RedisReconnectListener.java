@@ -1,7 +1,7 @@
 package com.main.suwoninfo.redis;
 
 import com.main.suwoninfo.domain.Post;
-import com.main.suwoninfo.service.PostService;
+import com.main.suwoninfo.service.PostCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -25,7 +25,7 @@ public class RedisReconnectListener {
 
     private final JobLauncher jobLauncher;
     private final Job paginationCacheJob;
-    private final PostService postService;
+    private final PostCountService postCountService;
 
     @EventListener(ApplicationReadyEvent.class)
     public void setIsServerReady() {
@@ -47,8 +47,8 @@ public class RedisReconnectListener {
         try {
             log.info("Redis 연결 복구 감지. 초기 캐시 세팅을 시작합니다.");
 
-            postService.countPost(Post.PostType.TRADE);
-            postService.countPost(Post.PostType.FREE);
+            postCountService.count(Post.PostType.TRADE);
+            postCountService.count(Post.PostType.FREE);
 
             JobParameters freeJobParameters = new JobParametersBuilder()
                     .addLong("runTime", System.currentTimeMillis())
@@ -0,0 +1,228 @@
+package com.main.suwoninfo.redis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.dto.PostResponse;
+import com.main.suwoninfo.utils.RedisUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 검색 결과 캐시 (Redis)
+ * 키워드는 소문자 + 연산자 문자 제거 + 단어 중복 제거/정렬로 정규화해서 같은 검색이면 같은 키를 쓴다
+ * 키워드별 결과 해시 v1:search:{type}:{sha1(키워드)} 에 page:{n} 과 count 를 두고 짧은 TTL 을 준다
+ * 키워드 목록 ZSET 으로 개수를 제한하고, 게시글이 바뀌면 그 게시글이 걸리는 키워드만 지운다
+ * 적중률은 search.cache{type, bucket, result} 로 기록하며 bucket 은 키워드 길이 구간이다
+ */
+@Slf4j
+@Component
+public class SearchResultCache {
+
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/search_cache_put.lua"), Long.class);
+    private static final TypeReference<List<PostResponse>> POSTS_TYPE = new TypeReference<>() {};
+
+    private static final String CACHE_VERSION = "v1";
+    private static final String COUNT_FIELD = "count";
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private final RedisUtils redisUtils;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final int maxKeywords;
+    private final int maxPage;
+
+    public SearchResultCache(RedisUtils redisUtils,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${cache.search.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${cache.search.max-keywords:1000}") int maxKeywords,
+                             @Value("${cache.search.max-page:5}") int maxPage) {
+        this.redisUtils = redisUtils;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxKeywords = maxKeywords;
+        this.maxPage = maxPage;
+    }
+
+    /**
+     * 검색어 정규화
+     * @return 검색할 단어가 없으면 null
+     */
+    public static String normalize(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        String normalized = Arrays.stream(keyword.toLowerCase(Locale.ROOT).trim().split("\\s+"))
+                .map(term -> term.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(" "));
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * @param keyword 정규화된 키워드
+     * @return 페이지와 결과 수가 모두 있으면 결과, 아니면 null
+     */
+    public SearchPage get(Post.PostType type, String keyword, int page) {
+        if (!isCacheable(keyword, page)) {
+            return null;
+        }
+
+        try {
+            List<String> values = redisUtils.hashMultiGet(resultKey(type, keyword), List.of(pageField(page), COUNT_FIELD));
+            if (values == null || values.get(0) == null || values.get(1) == null) {
+                recordCacheAttempt(type, keyword, "miss");
+                return null;
+            }
+
+            recordCacheAttempt(type, keyword, "hit");
+            return new SearchPage(objectMapper.readValue(values.get(0), POSTS_TYPE), Long.parseLong(values.get(1)));
+        } catch (Exception e) {
+            log.warn("검색 캐시 조회 실패: type={}, keyword={}, msg={}", type, keyword, e.getMessage());
+            recordCacheAttempt(type, keyword, "error");
+            return null;
+        }
+    }
+
+    public void put(Post.PostType type, String keyword, int page, SearchPage result) {
+        if (!isCacheable(keyword, page)) {
+            return;
+        }
+
+        try {
+            Long evicted = redisUtils.executeScript(PUT_SCRIPT,
+                    List.of(resultKey(type, keyword), registryKey(type)),
+                    pageField(page),
+                    objectMapper.writeValueAsString(result.posts()),
+                    String.valueOf(result.totalCount()),
+                    String.valueOf(ttlMillis),
+                    String.valueOf(System.currentTimeMillis()),
+                    keyword,
+                    String.valueOf(maxKeywords),
+                    resultKeyPrefix(type));
+
+            if (evicted != null && evicted > 0) {
+                log.debug("검색 캐시 키워드 제한 초과로 제거: type={}, evicted={}", type, evicted);
+            }
+        } catch (Exception e) {
+            log.warn("검색 캐시 저장 실패: type={}, keyword={}, msg={}", type, keyword, e.getMessage());
+        }
+    }
+
+    /**
+     * 바뀐 게시글의 제목/내용에 모든 단어가 들어 있는 키워드만 무효화
+     * 삭제와 수정 전 값은 제목만 알 수 있어서, 내용으로만 걸리던 키워드는 TTL 이 지나야 반영된다
+     */
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        Post.PostType type = event.getPostType();
+        PostResponse post = event.getPost();
+        List<String> texts = Stream.of(
+                        event.getPreviousTitle(),
+                        post == null ? null : post.title(),
+                        post == null ? null : post.content())
+                .filter(text -> text != null)
+                .map(text -> text.toLowerCase(Locale.ROOT))
+                .toList();
+        if (texts.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> matched = new ArrayList<>();
+            for (String keyword : redisUtils.zSetRange(registryKey(type), 0, -1)) {
+                List<String> terms = Arrays.asList(keyword.split(" "));
+                if (texts.stream().anyMatch(text -> terms.stream().allMatch(text::contains))) {
+                    matched.add(keyword);
+                }
+            }
+            if (matched.isEmpty()) {
+                return;
+            }
+
+            redisUtils.pipelineDelete(matched.stream().map(keyword -> resultKey(type, keyword)).toList());
+            redisUtils.zSetRemove(registryKey(type), matched);
+            log.debug("검색 캐시 무효화: type={}, postId={}, keywords={}", type, event.getPostId(), matched.size());
+        } catch (Exception e) {
+            log.warn("검색 캐시 무효화 실패: type={}, postId={}, msg={}", type, event.getPostId(), e.getMessage());
+        }
+    }
+
+    private boolean isCacheable(String keyword, int page) {
+        return keyword != null && keyword.length() <= MAX_KEYWORD_LENGTH && page >= 1 && page <= maxPage;
+    }
+
+    private String resultKey(Post.PostType type, String keyword) {
+        return resultKeyPrefix(type) + sha1Hex(keyword);
+    }
+
+    private String resultKeyPrefix(Post.PostType type) {
+        return redisUtils.versionedKey(CACHE_VERSION, "search:" + type + ":");
+    }
+
+    private String registryKey(Post.PostType type) {
+        return redisUtils.versionedKey(CACHE_VERSION, "search:" + type + ":keywords");
+    }
+
+    private String pageField(int page) {
+        return "page:" + page;
+    }
+
+    // Lua 의 redis.sha1hex 와 같은 값 (목록에서 밀려난 키워드의 해시 키를 스크립트에서 지움)
+    private String sha1Hex(String keyword) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(keyword.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void recordCacheAttempt(Post.PostType type, String keyword, String result) {
+        meterRegistry.counter("search.cache",
+                "type", String.valueOf(type),
+                "bucket", bucketOf(keyword),
+                "result", result
+        ).increment();
+    }
+
+    // 태그 수를 제한하기 위해 키워드 자체 대신 길이 구간으로 묶는다 (짧은 검색어일수록 반복 검색이 많음)
+    private String bucketOf(String keyword) {
+        int length = keyword.length();
+        if (length <= 2) {
+            return "len_1_2";
+        }
+        if (length <= 4) {
+            return "len_3_4";
+        }
+        if (length <= 8) {
+            return "len_5_8";
+        }
+        return "len_9_plus";
+    }
+
+    public record SearchPage(List<PostResponse> posts, long totalCount) {}
+}
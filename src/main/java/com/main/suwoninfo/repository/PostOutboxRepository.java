@@ -0,0 +1,51 @@
+package com.main.suwoninfo.repository;
+
+import com.main.suwoninfo.domain.PostOutbox;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.main.suwoninfo.domain.QPostOutbox.postOutbox;
+
+@Repository
+@RequiredArgsConstructor
+public class PostOutboxRepository {
+
+    private final EntityManager entityManager;
+    private final JPAQueryFactory queryFactory;
+
+    public void save(PostOutbox outbox) {
+        entityManager.persist(outbox);
+    }
+
+    public List<PostOutbox> findBatch(int limit) {
+        return queryFactory.selectFrom(postOutbox)
+                .orderBy(postOutbox.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 현재 가장 큰 아웃박스 ID (없으면 0)
+     */
+    public long maxId() {
+        Long maxId = queryFactory.select(postOutbox.id.max())
+                .from(postOutbox)
+                .fetchOne();
+        return maxId != null ? maxId : 0L;
+    }
+
+    @Transactional
+    public long deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return queryFactory.delete(postOutbox)
+                .where(postOutbox.id.in(ids))
+                .execute();
+    }
+}
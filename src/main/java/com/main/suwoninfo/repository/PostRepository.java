@@ -1,6 +1,7 @@
 package com.main.suwoninfo.repository;
 
 import com.main.suwoninfo.domain.Post;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
@@ -33,26 +34,46 @@ public class PostRepository {
                 .stream().findAny();
     }
 
-    public List<Post> findByTitle(String keyword, int limit, int offset, Post.PostType postType) {
-        return queryFactory.selectFrom(post)
-                .where(post.postType.eq(postType)
-                        .and(post.title.like("%" + keyword + "%")
-                                .or(post.content.like("%" + keyword + "%"))))
-                .offset(offset)
-                .limit(limit)
-                .orderBy(post.id.desc())
-                .fetch();
+    /**
+     * 키셋(seek) 페이징
+     * idx_post_ids (postType, post_id DESC) 범위를 lastPostId 바로 아래부터 limit 건만 읽는다
+     * @param lastPostId 마지막으로 본 게시글 ID (null 이면 처음부터)
+     */
+    public List<Post> findByKeyset(int limit, Post.PostType postType, Long lastPostId) {
+        return findSeek(limit, postType, lastPostId == null ? null : post.id.lt(lastPostId));
     }
 
-    public List<Post> findByCursorPaging(int limit, int mileStoneOffset, Post.PostType postType, int pagingOffset) {
+    /**
+     * startPostId 를 포함해서 limit 건 조회
+     */
+    public List<Post> findFromCursor(int limit, Post.PostType postType, Long startPostId) {
+        return findSeek(limit, postType, post.id.loe(startPostId));
+    }
+
+    /**
+     * 시작 커서 탐색
+     * post_id 만 조회하므로 인덱스만 읽고 건너뛴다 (본문 row 접근 없음)
+     * @param fromPostId 기준 커서 (null 이면 가장 최신 게시글부터)
+     * @param offset 기준에서 건너뛸 게시글 수
+     * @return 시작 게시글 ID, 범위를 벗어나면 null
+     */
+    public Long findCursorByOffset(Post.PostType postType, Long fromPostId, int offset) {
+        return queryFactory.select(post.id)
+                .from(post)
+                .where(post.postType.eq(postType),
+                        fromPostId == null ? null : post.id.loe(fromPostId))
+                .orderBy(post.id.desc())
+                .offset(offset)
+                .limit(1)
+                .fetchOne();
+    }
 
+    private List<Post> findSeek(int limit, Post.PostType postType, BooleanExpression range) {
         return queryFactory.selectFrom(post)
                 .join(post.user, user).fetchJoin()
-                .where(post.postType.eq(postType),
-                        (post.id.loe(mileStoneOffset)))
+                .where(post.postType.eq(postType), range)
                 .orderBy(post.id.desc())
                 .limit(limit)
-                .offset(pagingOffset)
                 .fetch();
     }
 
@@ -75,16 +96,4 @@ public class PostRepository {
         }
         return result;
     }
-
-    public List<Post> findAbsolutePaging(int limit, Post.PostType postType, int absoluteOffset) {
-
-        return queryFactory.selectFrom(post)
-                .join(post.user, user).fetchJoin()
-                .where(post.postType.eq(postType))
-                .orderBy(post.id.desc())
-                .limit(limit)
-                .offset(absoluteOffset)
-                .fetch();
-    }
 }
-
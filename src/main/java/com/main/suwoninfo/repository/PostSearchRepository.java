@@ -0,0 +1,118 @@
+package com.main.suwoninfo.repository;
+
+import com.main.suwoninfo.domain.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 게시글 전문 검색 (MySQL FULLTEXT, ngram 파서)
+ * ft_post_title_content (title, content) 인덱스를 사용하며 색인은 MySQL 이 insert/update/delete 시 함께 갱신한다
+ * 관련도 내림차순, 같은 관련도는 post_id 내림차순으로 정렬한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchRepository {
+
+    public static final String FULLTEXT_INDEX = "ft_post_title_content";
+
+    private static final String MATCH = "MATCH(title, content) AGAINST (:query IN BOOLEAN MODE)";
+
+    private final EntityManager entityManager;
+
+    /**
+     * 페이지 번호 검색
+     * @param query BOOLEAN MODE 검색식 ({@link #toBooleanQuery(String)})
+     */
+    public List<ScoredId> search(String query, Post.PostType postType, int limit, int offset) {
+        String sql = "SELECT post_id, " + MATCH + " AS score FROM post "
+                + "WHERE post_type = :type AND " + MATCH + " "
+                + "ORDER BY score DESC, post_id DESC LIMIT :limit OFFSET :offset";
+
+        Query nativeQuery = entityManager.createNativeQuery(sql)
+                .setParameter("query", query)
+                .setParameter("type", postType.name())
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+        return toScoredIds(nativeQuery);
+    }
+
+    /**
+     * search-after 검색
+     * 이전 페이지 마지막 결과의 (관련도, post_id) 다음부터 limit 건만 돌려준다
+     * 관련도는 계산 값이라 인덱스로 건너뛸 수 없어, 조건은 HAVING 으로 걸리고 MySQL 은 매 페이지마다
+     * 모든 일치 행의 점수를 계산해 정렬한다 (seek 가 아니며, OFFSET 과 달리 앞 페이지 행을 읽어 버리지 않을 뿐)
+     * 페이지 비용은 깊이가 아니라 일치 행 수에 비례한다
+     * @param after 마지막으로 본 결과 (null 이면 처음부터)
+     */
+    public List<ScoredId> searchAfter(String query, Post.PostType postType, int limit, ScoredId after) {
+        String sql = "SELECT post_id, " + MATCH + " AS score FROM post "
+                + "WHERE post_type = :type AND " + MATCH + " "
+                + (after == null ? "" : "HAVING score < :score OR (score = :score AND post_id < :postId) ")
+                + "ORDER BY score DESC, post_id DESC LIMIT :limit";
+
+        Query nativeQuery = entityManager.createNativeQuery(sql)
+                .setParameter("query", query)
+                .setParameter("type", postType.name())
+                .setParameter("limit", limit);
+        if (after != null) {
+            nativeQuery.setParameter("score", after.score())
+                    .setParameter("postId", after.postId());
+        }
+        return toScoredIds(nativeQuery);
+    }
+
+    /**
+     * 검색 결과 수
+     * 일치 행을 max 개까지만 읽고 멈추므로 흔한 단어도 비용이 max 에 묶인다
+     * @return 실제 결과 수와 max 중 작은 값
+     */
+    public long count(String query, Post.PostType postType, int max) {
+        String sql = "SELECT COUNT(*) FROM (SELECT 1 FROM post WHERE post_type = :type AND " + MATCH
+                + " LIMIT :max) matched";
+
+        Number result = (Number) entityManager.createNativeQuery(sql)
+                .setParameter("query", query)
+                .setParameter("type", postType.name())
+                .setParameter("max", max)
+                .getSingleResult();
+        return result == null ? 0 : result.longValue();
+    }
+
+    /**
+     * 검색어를 BOOLEAN MODE 검색식으로 변환
+     * 공백으로 나눈 단어마다 연산자 문자를 지우고 +"단어" 로 감싸서 모든 단어가 연속된 형태로 포함된 글만 찾는다
+     * @return 검색할 단어가 없으면 null
+     */
+    public static String toBooleanQuery(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String term : keyword.trim().split("\\s+")) {
+            String cleaned = term.replaceAll("[+\\-<>()~*\"@]", "");
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append("+\"").append(cleaned).append('"');
+        }
+        return query.length() == 0 ? null : query.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ScoredId> toScoredIds(Query nativeQuery) {
+        List<Object[]> rows = nativeQuery.getResultList();
+        return rows.stream()
+                .map(row -> new ScoredId(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+
+    public record ScoredId(Long postId, double score) {}
+}
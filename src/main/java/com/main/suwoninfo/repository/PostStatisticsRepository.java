@@ -1,10 +1,12 @@
 package com.main.suwoninfo.repository;
 
 import com.main.suwoninfo.domain.Post;
-import com.main.suwoninfo.domain.PostStatistics;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import static com.main.suwoninfo.domain.QPostStatistics.postStatistics;
@@ -14,19 +16,33 @@ import static com.main.suwoninfo.domain.QPostStatistics.postStatistics;
 public class PostStatisticsRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
+    /**
+     * 슬롯 합계 (SUM 결과는 Long 이므로 Long 으로 받아 변환)
+     */
     public Integer countPost(Post.PostType postType) {
 
-        return queryFactory.select(postStatistics.count)
+        Long sum = queryFactory.select(Expressions.numberTemplate(Long.class, "coalesce(sum({0}), 0)", postStatistics.count))
                 .from(postStatistics)
                 .where(postStatistics.postType.eq(postType))
                 .fetchOne();
+        return sum != null ? Math.toIntExact(sum) : 0;
     }
 
-    public PostStatistics findByType(Post.PostType postType) {
-
-        return queryFactory.selectFrom(postStatistics)
-                .where(postStatistics.postType.eq(postType))
-                .fetchOne();
+    /**
+     * 한 슬롯에 delta 를 더함 (슬롯 행이 없으면 생성)
+     * 엔티티를 읽지 않고 한 문장으로 처리해 슬롯 행 락만 잠깐 잡는다
+     */
+    @Transactional
+    public void addCount(Post.PostType postType, int slot, long delta) {
+        String sql = "INSERT INTO post_statistics (post_type, slot, `count`) VALUES (:type, :slot, :delta) "
+                + "ON DUPLICATE KEY UPDATE `count` = `count` + :delta";
+
+        entityManager.createNativeQuery(sql)
+                .setParameter("type", postType.name())
+                .setParameter("slot", slot)
+                .setParameter("delta", delta)
+                .executeUpdate();
     }
 }
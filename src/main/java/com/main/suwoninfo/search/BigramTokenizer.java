@@ -0,0 +1,74 @@
+package com.main.suwoninfo.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 2-gram 토크나이저
+ * 글자/숫자가 이어진 단어마다 두 글자씩 겹쳐 자른다 ("중고거래" → 중고, 고거, 거래)
+ * 색인에는 한 글자 토큰(중, 고, 거, 래)도 함께 넣어 한 글자 검색어가 긴 단어 안에서도 찾히게 하고,
+ * 검색어는 두 글자 이상 단어면 2-gram 만, 한 글자 단어면 그 글자를 토큰으로 쓴다
+ * 영문은 소문자로 맞춘다
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 (2-gram + 한 글자)
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 2 <= word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 (두 글자 이상 단어는 2-gram, 한 글자 단어는 그대로)
+     */
+    public static Set<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words(keyword)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,56 @@
+package com.main.suwoninfo.search;
+
+import com.main.suwoninfo.repository.PostSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StopWatch;
+
+/**
+ * 검색용 FULLTEXT 인덱스 생성
+ * ddl-auto 로는 ngram 파서를 지정할 수 없어서 서버가 뜰 때 인덱스가 없으면 직접 만든다
+ * 한글은 띄어쓰기 단위 토큰으로는 부분 일치가 안 되므로 ngram(기본 2글자) 파서를 사용한다
+ */
+@Slf4j
+@Component
+public class FullTextIndexInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean autoCreate;
+
+    public FullTextIndexInitializer(JdbcTemplate jdbcTemplate,
+                                    @Value("${search.fulltext.auto-create:true}") boolean autoCreate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.autoCreate = autoCreate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfAbsent() {
+        if (!autoCreate) {
+            return;
+        }
+
+        try {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+                    Integer.class, PostSearchRepository.FULLTEXT_INDEX);
+            if (exists != null && exists > 0) {
+                return;
+            }
+
+            log.info("FULLTEXT 인덱스 생성 시작: {}", PostSearchRepository.FULLTEXT_INDEX);
+            StopWatch stopWatch = new StopWatch();
+            stopWatch.start();
+            jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX " + PostSearchRepository.FULLTEXT_INDEX
+                    + " (title, content) WITH PARSER ngram");
+            stopWatch.stop();
+            log.info("FULLTEXT 인덱스 생성 완료: {} ms", stopWatch.getTotalTimeMillis());
+        } catch (Exception e) {
+            log.error("FULLTEXT 인덱스 생성 실패. 검색 결과가 비어 있을 수 있음: msg={}", e.getMessage());
+        }
+    }
+}
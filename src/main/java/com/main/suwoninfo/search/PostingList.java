@@ -0,0 +1,74 @@
+package com.main.suwoninfo.search;
+
+import java.util.Arrays;
+
+/**
+ * 토큰 하나의 게시글 ID 목록 (오름차순 long[])
+ * 새 게시글은 항상 가장 큰 ID 라서 대부분 뒤에 붙이기만 하고, 조회는 이진 탐색으로 한다
+ * 동기화는 TitleSearchIndex 의 락에 맡긴다
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long id) {
+        if (size == 0 || id > ids[size - 1]) {
+            grow();
+            ids[size++] = id;
+            return;
+        }
+
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        grow();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * id 보다 작은 마지막 위치 (내림차순 순회 시작점)
+     * @return 없으면 -1
+     */
+    int lastIndexBelow(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        return (index >= 0 ? index : -index - 1) - 1;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void grow() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.main.suwoninfo.search;
+
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 검색어 자동완성
+ * 게시글 제목의 단어(등장한 제목 수)와 지난 검색어(검색 횟수 x query-weight)를 가중치로 하는 두 SuggestTrie 를 둔다
+ * 제목 trie 는 전체 제목을 읽어야 하므로 SuggestIndexJob 이 드물게 새로 만들고,
+ * 검색어 trie 는 상위 max-queries 개만으로 query-refresh-millis 마다 따로 만든다
+ * 조회는 두 trie 의 상위 후보를 모아 가중치 합으로 다시 정렬한다
+ * 검색어는 결과가 있었던 것만 Redis ZSET(search:queries)에 모든 노드가 함께 센다
+ * 갱신 사이에도 커지지 않도록 기록할 때 일정 확률로 상위 max-queries x 2 개만 남긴다
+ */
+@Slf4j
+@Component
+public class SuggestIndex {
+
+    public static final String QUERY_KEY = "search:queries";
+
+    private static final int MIN_WORD_LENGTH = 2;
+    private static final int MAX_PHRASE_LENGTH = 30;
+    private static final int TRIM_SAMPLE = 100; // 기록 100번에 한 번꼴로 잘라낸다
+    private static final int WRITE_HEADROOM = 2; // 새 검색어가 바로 밀려나지 않도록 재구성 때보다 넉넉히 남김
+
+    private final RedisUtils redisUtils;
+    private final int topK;
+    private final int maxQueries;
+    private final long queryWeight;
+
+    private volatile SuggestTrie titleTrie = SuggestTrie.empty();
+    private volatile SuggestTrie queryTrie = SuggestTrie.empty();
+    private SuggestTrie.Builder building; // 배치 스텝 스레드에서만 사용
+
+    public SuggestIndex(RedisUtils redisUtils,
+                        @Value("${search.suggest.top-k:10}") int topK,
+                        @Value("${search.suggest.max-queries:10000}") int maxQueries,
+                        @Value("${search.suggest.query-weight:5}") long queryWeight) {
+        this.redisUtils = redisUtils;
+        this.topK = topK;
+        this.maxQueries = maxQueries;
+        this.queryWeight = queryWeight;
+    }
+
+    public List<String> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int k = Math.min(limit, topK);
+        SuggestTrie titles = titleTrie;
+        SuggestTrie queries = queryTrie;
+        if (queries.size() == 0) {
+            return titles.suggest(normalized, k);
+        }
+
+        // 각 trie 의 상위 k 밖에 있던 문구가 합산으로 앞설 수 있지만, 후보는 두 trie 의 상위 k 로 제한한다
+        Set<String> candidates = new LinkedHashSet<>(titles.suggest(normalized, k));
+        candidates.addAll(queries.suggest(normalized, k));
+        return candidates.stream()
+                .sorted(Comparator.comparingLong((String phrase) -> titles.weight(phrase) + queries.weight(phrase))
+                        .reversed()
+                        .thenComparing(Comparator.naturalOrder()))
+                .limit(k)
+                .toList();
+    }
+
+    /**
+     * 검색어 집계 (입력 순서는 유지하고 소문자/공백만 정리)
+     * 결과가 없는 검색어는 자동완성에 올리지 않는다
+     */
+    public void recordQuery(String keyword, long resultCount) {
+        String normalized = normalize(keyword).strip();
+        if (resultCount <= 0 || normalized.length() < MIN_WORD_LENGTH || normalized.length() > MAX_PHRASE_LENGTH) {
+            return;
+        }
+        try {
+            redisUtils.zSetIncrement(QUERY_KEY, normalized, 1);
+            if (ThreadLocalRandom.current().nextInt(TRIM_SAMPLE) == 0) {
+                redisUtils.zSetTrimToTop(QUERY_KEY, maxQueries * WRITE_HEADROOM);
+            }
+        } catch (Exception e) {
+            log.debug("검색어 집계 실패: keyword={}, msg={}", keyword, e.getMessage());
+        }
+    }
+
+    public void beginRebuild() {
+        building = new SuggestTrie.Builder();
+    }
+
+    public void addTitles(List<String> titles) {
+        if (building == null) {
+            return;
+        }
+        for (String title : titles) {
+            if (title == null) {
+                continue;
+            }
+            for (String word : title.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+                if (word.length() >= MIN_WORD_LENGTH && word.length() <= MAX_PHRASE_LENGTH) {
+                    building.add(word, 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * 제목 trie 교체
+     */
+    public void completeRebuild() {
+        if (building == null) {
+            return;
+        }
+
+        SuggestTrie built = building.build(topK);
+        building = null;
+        titleTrie = built;
+        log.info("자동완성 제목 trie 교체 완료: phrases={}", built.size());
+    }
+
+    /**
+     * 검색어 trie 갱신
+     * 검색어 ZSET 은 상위 max-queries 개만 남긴다
+     */
+    @Scheduled(fixedDelayString = "${search.suggest.query-refresh-millis:300000}")
+    public void refreshQueries() {
+        try {
+            Map<String, Double> queries = redisUtils.zSetTopWithScores(QUERY_KEY, maxQueries);
+            redisUtils.zSetTrimToTop(QUERY_KEY, maxQueries);
+
+            SuggestTrie.Builder builder = new SuggestTrie.Builder();
+            queries.forEach((query, count) -> builder.add(query, count.longValue() * queryWeight));
+            queryTrie = builder.build(topK);
+        } catch (Exception e) {
+            log.warn("지난 검색어 조회 실패. 이전 검색어 trie 유지: msg={}", e.getMessage());
+        }
+    }
+
+    public void abortRebuild() {
+        building = null;
+    }
+
+    private String normalize(String prefix) {
+        if (prefix == null) {
+            return "";
+        }
+        return prefix.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").stripLeading();
+    }
+}
@@ -0,0 +1,253 @@
+package com.main.suwoninfo.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성용 가중치 trie (읽기 전용)
+ * 노드를 객체 대신 배열로 두고, 노드마다 그 아래 문구 중 가중치 상위 k 개를 미리 계산해 둔다
+ * 조회는 접두어 길이만큼 자식 이진 탐색 + 상위 k 개 복사라 전체 문구 수와 무관하다
+ */
+public final class SuggestTrie {
+
+    private static final SuggestTrie EMPTY = new Builder().build(1);
+
+    private final String[] phrases;   // 사전순
+    private final long[] weights;     // phrases 와 같은 순서
+    private final char[] labels;      // 노드로 들어오는 글자 (루트는 사용 안 함)
+    private final int[] firstChild;   // 자식은 연속된 노드, 글자순
+    private final int[] childCount;
+    private final int[] topStart;     // topPool 안의 상위 k 시작 위치
+    private final int[] topCount;
+    private final int[] topPool;      // 문구 인덱스
+
+    private SuggestTrie(String[] phrases, long[] weights, char[] labels, int[] firstChild, int[] childCount,
+                        int[] topStart, int[] topCount, int[] topPool) {
+        this.phrases = phrases;
+        this.weights = weights;
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topStart = topStart;
+        this.topCount = topCount;
+        this.topPool = topPool;
+    }
+
+    public static SuggestTrie empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return phrases.length;
+    }
+
+    /**
+     * @param prefix 정규화된 접두어
+     * @return 가중치 내림차순 최대 limit 개
+     */
+    public List<String> suggest(String prefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) {
+            node = findChild(node, prefix.charAt(i));
+        }
+        if (node < 0) {
+            return List.of();
+        }
+
+        int count = Math.min(limit, topCount[node]);
+        List<String> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(phrases[topPool[topStart[node] + i]]);
+        }
+        return result;
+    }
+
+    /**
+     * @return 문구의 가중치 (없으면 0)
+     */
+    public long weight(String phrase) {
+        int index = Arrays.binarySearch(phrases, phrase);
+        return index < 0 ? 0 : weights[index];
+    }
+
+    private int findChild(int node, char c) {
+        int lo = firstChild[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (labels[mid] < c) {
+                lo = mid + 1;
+            } else if (labels[mid] > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 문구별 가중치를 모아 trie 생성
+     */
+    public static final class Builder {
+
+        private final Map<String, Long> weights = new HashMap<>();
+
+        public Builder add(String phrase, long weight) {
+            if (phrase != null && !phrase.isEmpty()) {
+                weights.merge(phrase, weight, Long::sum);
+            }
+            return this;
+        }
+
+        public int size() {
+            return weights.size();
+        }
+
+        /**
+         * @param k 노드마다 미리 계산해 둘 상위 문구 수
+         */
+        public SuggestTrie build(int k) {
+            String[] phrases = weights.keySet().toArray(new String[0]);
+            Arrays.sort(phrases);
+            long[] weightOf = new long[phrases.length];
+            for (int i = 0; i < phrases.length; i++) {
+                weightOf[i] = weights.get(phrases[i]);
+            }
+
+            // 사전순 구간 [lo, hi) 를 depth 번째 글자로 나누며 BFS 로 노드 생성 (자식이 연속 배치됨)
+            IntList nodeLo = new IntList(), nodeHi = new IntList(), nodeDepth = new IntList();
+            IntList firstChild = new IntList(), childCount = new IntList();
+            StringBuilder labels = new StringBuilder();
+
+            nodeLo.add(0);
+            nodeHi.add(phrases.length);
+            nodeDepth.add(0);
+            labels.append('\0');
+
+            Deque<Integer> queue = new ArrayDeque<>();
+            queue.add(0);
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                int lo = nodeLo.get(node), hi = nodeHi.get(node), depth = nodeDepth.get(node);
+
+                int i = lo;
+                while (i < hi && phrases[i].length() == depth) {
+                    i++; // 이 노드에서 끝나는 문구 (사전순에서 항상 맨 앞)
+                }
+
+                firstChild.set(node, nodeLo.size());
+                int children = 0;
+                while (i < hi) {
+                    char c = phrases[i].charAt(depth);
+                    int j = i;
+                    while (j < hi && phrases[j].charAt(depth) == c) {
+                        j++;
+                    }
+                    int child = nodeLo.size();
+                    nodeLo.add(i);
+                    nodeHi.add(j);
+                    nodeDepth.add(depth + 1);
+                    labels.append(c);
+                    queue.add(child);
+                    children++;
+                    i = j;
+                }
+                childCount.set(node, children);
+            }
+
+            // 자식이 항상 부모보다 뒤에 있으므로 뒤에서부터 상위 k 를 합친다
+            int nodes = nodeLo.size();
+            int[][] top = new int[nodes][];
+            int[] buffer = new int[k];
+            for (int node = nodes - 1; node >= 0; node--) {
+                int size = 0;
+                int depth = nodeDepth.get(node);
+                for (int i = nodeLo.get(node); i < nodeHi.get(node) && phrases[i].length() == depth; i++) {
+                    size = offer(buffer, size, i, weightOf);
+                }
+                for (int c = 0; c < childCount.get(node); c++) {
+                    for (int index : top[firstChild.get(node) + c]) {
+                        size = offer(buffer, size, index, weightOf);
+                    }
+                }
+                top[node] = Arrays.copyOf(buffer, size);
+            }
+
+            int[] topStart = new int[nodes];
+            int[] topCount = new int[nodes];
+            IntList pool = new IntList();
+            for (int node = 0; node < nodes; node++) {
+                topStart[node] = pool.size();
+                topCount[node] = top[node].length;
+                for (int index : top[node]) {
+                    pool.add(index);
+                }
+            }
+
+            return new SuggestTrie(phrases, weightOf, labels.toString().toCharArray(), firstChild.toArray(nodes),
+                    childCount.toArray(nodes), topStart, topCount, pool.toArray(pool.size()));
+        }
+    }
+
+    /**
+     * 가중치 내림차순(같으면 사전순) 상위 k 버퍼에 삽입
+     * @return 버퍼에 든 개수
+     */
+    private static int offer(int[] buffer, int size, int index, long[] weightOf) {
+        int position = size;
+        while (position > 0 && ranksBefore(index, buffer[position - 1], weightOf)) {
+            position--;
+        }
+        if (position >= buffer.length) {
+            return size;
+        }
+
+        int newSize = Math.min(size + 1, buffer.length);
+        System.arraycopy(buffer, position, buffer, position + 1, newSize - position - 1);
+        buffer[position] = index;
+        return newSize;
+    }
+
+    private static boolean ranksBefore(int a, int b, long[] weightOf) {
+        return weightOf[a] != weightOf[b] ? weightOf[a] > weightOf[b] : a < b;
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void set(int index, int value) {
+            while (index >= values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[index] = value;
+            size = Math.max(size, index + 1);
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray(int length) {
+            return Arrays.copyOf(values, length);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.main.suwoninfo.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.redis.PostChangedEvent;
+import com.main.suwoninfo.utils.RedisUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목 메모리 색인 (2-gram 과 한 글자 토큰별 ID 목록, 타입별로 분리)
+ * 검색어의 모든 토큰 목록의 교집합을 최신 ID 부터 돌려준다
+ * 2-gram 교집합이라 토큰은 모두 있지만 검색어가 이어져 있지 않은 제목도 드물게 포함될 수 있다
+ *
+ * 서버 시작 시 TitleIndexJob 이 post 테이블에서 다시 만들고, 이후에는 커밋된 게시글 변경을 바로 반영한다
+ * 변경은 Redis 채널로도 발행해 다른 노드 색인에도 반영하고, 자기가 발행한 메시지는 건너뛴다
+ * 메시지를 놓친 노드는 TitleIndexScheduler 의 주기적 재구성으로 따라잡는다
+ * 재구성 중 들어온 변경은 새 색인에도 함께 반영하고, 교체 직전에 해당 게시글만 최신 제목으로 다시 넣는다
+ * (배치가 변경 전 제목을 읽어 나중에 쓴 경우를 바로잡기 위함)
+ */
+@Slf4j
+@Component
+public class TitleSearchIndex implements MessageListener {
+
+    public static final String CHANGE_TOPIC = "search:title-index";
+
+    private final RedisUtils redisUtils;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString(); // 자기 메시지 구분용
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Post.PostType, Map<String, PostingList>> postings = emptyPostings();
+    private Map<Post.PostType, Map<String, PostingList>> building; // 재구성 중인 색인, 평소에는 null
+    private final Map<Post.PostType, Map<Long, String>> changedWhileBuilding = new EnumMap<>(Post.PostType.class); // 삭제면 null
+    private volatile boolean ready;
+
+    public TitleSearchIndex(RedisUtils redisUtils, ObjectMapper objectMapper) {
+        this.redisUtils = redisUtils;
+        this.objectMapper = objectMapper;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 검색
+     * @param afterId 이전 페이지의 마지막 ID (null 이면 가장 최신부터)
+     * @param offset afterId 이후에서 건너뛸 건수
+     * @return 게시글 ID 내림차순
+     */
+    public List<Long> search(Post.PostType postType, String keyword, Long afterId, int offset, int limit) {
+        List<Long> result = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = postingsOf(postings.get(postType), keyword);
+            if (lists == null) {
+                return result;
+            }
+
+            PostingList smallest = lists.get(0);
+            int start = afterId == null ? smallest.size() - 1 : smallest.lastIndexBelow(afterId);
+            int skipped = 0;
+            for (int i = start; i >= 0 && result.size() < limit; i--) {
+                long id = smallest.get(i);
+                if (!containsInAll(lists, id)) {
+                    continue;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                result.add(id);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int count(Post.PostType postType, String keyword) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = postingsOf(postings.get(postType), keyword);
+            if (lists == null) {
+                return 0;
+            }
+
+            PostingList smallest = lists.get(0);
+            if (lists.size() == 1) {
+                return smallest.size();
+            }
+            int count = 0;
+            for (int i = 0; i < smallest.size(); i++) {
+                if (containsInAll(lists, smallest.get(i))) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        Post.PostType type = event.getPostType();
+        TitleChange change = switch (event.getChangeType()) {
+            case CREATED -> new TitleChange(nodeId, type, event.getPostId(), null, event.getPost().title());
+            case DELETED -> new TitleChange(nodeId, type, event.getPostId(), event.getPreviousTitle(), null);
+            // 타입이 바뀐 경우 새 타입 이벤트에서만 다시 넣는다
+            case UPDATED -> new TitleChange(nodeId, type, event.getPostId(), event.getPreviousTitle(),
+                    event.getPost().postType() == type ? event.getPost().title() : null);
+        };
+
+        apply(change);
+
+        try {
+            redisUtils.publish(CHANGE_TOPIC, objectMapper.writeValueAsString(change));
+        } catch (Exception e) {
+            // 다른 노드는 다음 주기적 재구성 때 반영된다
+            log.warn("제목 색인 변경 발행 실패: type={}, postId={}", type, event.getPostId(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        TitleChange change;
+        try {
+            change = objectMapper.readValue(message.getBody(), TitleChange.class);
+        } catch (Exception e) {
+            log.warn("잘못된 제목 색인 메시지: {}", e.getMessage());
+            return;
+        }
+
+        if (!nodeId.equals(change.origin())) {
+            apply(change);
+        }
+    }
+
+    private void apply(TitleChange change) {
+        remove(change.postType(), change.postId(), change.removeTitle());
+        if (change.addTitle() != null) {
+            add(change.postType(), change.postId(), change.addTitle());
+        }
+    }
+
+    public void add(Post.PostType postType, Long postId, String title) {
+        Set<String> tokens = BigramTokenizer.tokenize(title);
+        lock.writeLock().lock();
+        try {
+            addTo(postings, postType, postId, tokens);
+            if (building != null) {
+                addTo(building, postType, postId, tokens);
+                changedWhileBuilding.computeIfAbsent(postType, t -> new HashMap<>()).put(postId, title);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Post.PostType postType, Long postId, String title) {
+        if (title == null) {
+            return;
+        }
+        Set<String> tokens = BigramTokenizer.tokenize(title);
+        lock.writeLock().lock();
+        try {
+            removeFrom(postings, postType, postId, tokens);
+            if (building != null) {
+                removeFrom(building, postType, postId, tokens);
+                changedWhileBuilding.computeIfAbsent(postType, t -> new HashMap<>()).put(postId, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            building = emptyPostings();
+            changedWhileBuilding.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재구성 배치에서 읽은 게시글 추가
+     */
+    public void addAll(List<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            if (building == null) {
+                return;
+            }
+            for (Entry entry : entries) {
+                addTo(building, entry.postType(), entry.postId(), BigramTokenizer.tokenize(entry.title()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void completeRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (building == null) {
+                return;
+            }
+            // 재구성 중 바뀐 게시글은 모든 목록에서 지우고 최신 제목으로 다시 넣는다
+            changedWhileBuilding.forEach((type, changed) -> {
+                Map<String, PostingList> byToken = building.get(type);
+                byToken.values().forEach(list -> changed.keySet().forEach(list::remove));
+                changed.forEach((postId, title) -> {
+                    if (title != null) {
+                        addTo(building, type, postId, BigramTokenizer.tokenize(title));
+                    }
+                });
+            });
+            postings = building;
+            building = null;
+            changedWhileBuilding.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("제목 색인 교체 완료: tokens={}", postings.values().stream().mapToInt(Map::size).sum());
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            building = null;
+            changedWhileBuilding.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return 크기 오름차순 ID 목록, 토큰이 없거나 하나라도 비어 있으면 null
+     */
+    private List<PostingList> postingsOf(Map<String, PostingList> byToken, String keyword) {
+        Set<String> tokens = BigramTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        List<PostingList> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            PostingList list = byToken.get(token);
+            if (list == null || list.isEmpty()) {
+                return null;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+        return lists;
+    }
+
+    private boolean containsInAll(List<PostingList> lists, long id) {
+        for (int j = 1; j < lists.size(); j++) {
+            if (!lists.get(j).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addTo(Map<Post.PostType, Map<String, PostingList>> target, Post.PostType postType,
+                       Long postId, Set<String> tokens) {
+        Map<String, PostingList> byToken = target.get(postType);
+        for (String token : tokens) {
+            byToken.computeIfAbsent(token, t -> new PostingList()).add(postId);
+        }
+    }
+
+    private void removeFrom(Map<Post.PostType, Map<String, PostingList>> target, Post.PostType postType,
+                            Long postId, Set<String> tokens) {
+        Map<String, PostingList> byToken = target.get(postType);
+        for (String token : tokens) {
+            PostingList list = byToken.get(token);
+            if (list != null) {
+                list.remove(postId);
+            }
+        }
+    }
+
+    private static Map<Post.PostType, Map<String, PostingList>> emptyPostings() {
+        Map<Post.PostType, Map<String, PostingList>> map = new EnumMap<>(Post.PostType.class);
+        for (Post.PostType type : Post.PostType.values()) {
+            map.put(type, new HashMap<>());
+        }
+        return map;
+    }
+
+    public record Entry(Long postId, Post.PostType postType, String title) {}
+
+    /**
+     * 노드 간 전파용 변경 (removeTitle 토큰에서 빼고 addTitle 토큰에 넣는다, 각각 없으면 null)
+     */
+    public record TitleChange(String origin, Post.PostType postType, Long postId, String removeTitle, String addTitle) {}
+}
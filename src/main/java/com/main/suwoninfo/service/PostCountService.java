@@ -0,0 +1,110 @@
+package com.main.suwoninfo.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.redis.PostChangedEvent;
+import com.main.suwoninfo.repository.PostStatisticsRepository;
+import com.main.suwoninfo.utils.RedisUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 타입별 게시글 수 조회 (로컬 → Redis → DB)
+ * 로컬 값은 refresh-millis 가 지나면 조회는 기존 값으로 바로 응답하고 백그라운드에서 다시 읽어 온다 (refresh-ahead)
+ * Redis 키는 v1:posts:{type}:count 하나로 읽기/쓰기를 맞추고, 게시글 수가 바뀌면 커밋 후 지워서 다음 갱신 때 DB 에서 다시 채운다
+ * 로컬 적중률은 cache.gets{cache=post.count}, Redis/DB 단계는 cache.attempt 로 확인한다
+ */
+@Slf4j
+@Service
+public class PostCountService {
+
+    private static final String CACHE_VERSION = "v1";
+    private static final String METRIC_CACHE_NAME = "post.count";
+
+    private final PostStatisticsRepository postStatisticsRepository;
+    private final RedisUtils redisUtils;
+    private final MeterRegistry meterRegistry;
+    private final Duration redisTtl;
+    private final LoadingCache<Post.PostType, Integer> cache;
+
+    public PostCountService(PostStatisticsRepository postStatisticsRepository,
+                            RedisUtils redisUtils,
+                            MeterRegistry meterRegistry,
+                            @Value("${cache.count.refresh-millis:1000}") long refreshMillis,
+                            @Value("${cache.count.ttl-millis:10000}") long ttlMillis,
+                            @Value("${cache.count.redis-ttl-seconds:300}") long redisTtlSeconds) {
+        this.postStatisticsRepository = postStatisticsRepository;
+        this.redisUtils = redisUtils;
+        this.meterRegistry = meterRegistry;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .refreshAfterWrite(Duration.ofMillis(refreshMillis))
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, METRIC_CACHE_NAME);
+    }
+
+    public int count(Post.PostType postType) {
+        return cache.get(postType);
+    }
+
+    /**
+     * 로컬과 Redis 값을 모두 버림 (다음 조회 때 DB 에서 다시 채움)
+     */
+    public void invalidate(Post.PostType postType) {
+        try {
+            redisUtils.delete(countKey(postType));
+        } catch (Exception e) {
+            log.warn("게시글 수 캐시 삭제 실패: type={}, msg={}", postType, e.getMessage());
+        }
+        cache.invalidate(postType);
+    }
+
+    @TransactionalEventListener
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getChangeType() != PostChangedEvent.ChangeType.UPDATED || event.isTypeChanged()) {
+            invalidate(event.getPostType());
+        }
+    }
+
+    private Integer load(Post.PostType postType) {
+        String key = countKey(postType);
+        try {
+            String cached = redisUtils.stringGet(key);
+            if (cached != null) {
+                recordCacheAttempt(postType, "count_redis_hit");
+                return Integer.parseInt(cached);
+            }
+        } catch (Exception e) {
+            log.warn("게시글 수 Redis 조회 실패. DB 로 대체: type={}, msg={}", postType, e.getMessage());
+        }
+
+        recordCacheAttempt(postType, "count_db_load");
+        int count = postStatisticsRepository.countPost(postType);
+        try {
+            redisUtils.stringSet(key, String.valueOf(count), redisTtl);
+        } catch (Exception e) {
+            log.warn("게시글 수 Redis 저장 실패: type={}, msg={}", postType, e.getMessage());
+        }
+        return count;
+    }
+
+    private String countKey(Post.PostType postType) {
+        return redisUtils.versionedKey(CACHE_VERSION, "posts:" + postType + ":count");
+    }
+
+    private void recordCacheAttempt(Post.PostType type, String result) {
+        meterRegistry.counter("cache.attempt",
+                "type", String.valueOf(type),
+                "result", result
+        ).increment();
+    }
+}
@@ -1,32 +1,44 @@
 package com.main.suwoninfo.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.main.suwoninfo.domain.Post;
 import com.main.suwoninfo.dto.PostResponse;
+import com.main.suwoninfo.redis.CacheSerializers;
+import com.main.suwoninfo.redis.PostCacheWriter;
+import com.main.suwoninfo.redis.PostNearCache;
+import com.main.suwoninfo.redis.PostPageBlobCache;
+import com.main.suwoninfo.redis.PostPageResolver;
 import com.main.suwoninfo.redis.RedisConnectedEvent;
 import com.main.suwoninfo.exception.CustomException;
 import com.main.suwoninfo.exception.PostErrorCode;
+import com.main.suwoninfo.lock.SingleFlight;
 import com.main.suwoninfo.utils.RedisUtils;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.main.suwoninfo.utils.ToUtils.toPostResponse;
@@ -39,14 +51,33 @@ public class PostFacade {
     private static final String CACHE_VERSION = "v1";
     private static final Duration POST_TTL = Duration.ofHours(1);
     private static final Duration IDS_TTL = Duration.ofMinutes(2);
+    private static final Duration UNREGISTERED_IDS_TTL = Duration.ofSeconds(10);
     private static final int MISSING_THRESHOLD = 3;
     private static final double PER_DELTA = 0.2; // TTL의 20% 남았을 때부터 확률적 갱신
     private static final double PER_BETA = 1.0; // 갱신 확률 조절
+    private static final String REBUILD_LOCK_PREFIX = "LOCK:cache:rebuild:";
 
     private final PostService postService;
     private final RedisUtils redisUtils;
     private final ObjectMapper objectMapper;
     private final MeterRegistry meterRegistry;
+    private final PostNearCache postNearCache;
+    private final PostPageResolver postPageResolver;
+    private final RedissonClient redissonClient;
+    private final PostPageBlobCache postPageBlobCache;
+    private final CacheSerializers cacheSerializers;
+
+    // 같은 ID 목록 키의 재구성은 노드 안에서 한 번만 실행
+    private final SingleFlight<String, List<PostResponse>> rebuildFlight = new SingleFlight<>();
+
+    @Value("${cache.rebuild.cluster-lease.enabled:false}")
+    private boolean clusterLeaseEnabled; // 노드 간에도 키당 한 번만 DB 조회
+
+    @Value("${cache.rebuild.cluster-lease.wait-millis:2000}")
+    private long leaseWaitMillis;
+
+    @Value("${cache.rebuild.cluster-lease.lease-millis:3000}")
+    private long leaseMillis;
 
     @Autowired
     @Lazy
@@ -54,55 +85,51 @@ public class PostFacade {
 
     /**
      * 게시글 목록 조회 (메인 메서드)
+     * 페이지 번호 모드는 이정표 캐시로 시작 커서만 찾고, 실제 조회는 커서부터 키셋으로 읽는다
+     * @param page 페이지 번호 (1부터 시작)
      */
     @CircuitBreaker(name = "redisDown", fallbackMethod = "handleRedisDown")
     public List<PostResponse> findPostList(int limit, int page, Post.PostType postType) throws InterruptedException {
         Timer.Sample sample = Timer.start(meterRegistry);
 
         try {
-            int mileStoneIndex = ((page - 1) / 100) * 100 + 1;
-            int newPostsCount = Integer.parseInt(redisUtils.get("new_" + postType + "_posts_count").toString());
-            int deletedPostsCount = Math.toIntExact(redisUtils.zSetGetCount(String.format("deleted:post:ids:%s", postType),
-                    Long.valueOf(mileStoneIndex - 100), Long.valueOf(mileStoneIndex)));
-
-            int pageId = Integer.parseInt(redisUtils.stringGet(postType + "_page:" + mileStoneIndex));
-            int pagingOffset = (page - mileStoneIndex) * 10;
-            int calculatedOffset = pagingOffset - newPostsCount + deletedPostsCount;
-
-            if(calculatedOffset < 0 && mileStoneIndex > 1) {
-                mileStoneIndex -= 100;
-                pageId = Integer.parseInt(redisUtils.stringGet(postType + "_page:" + mileStoneIndex));
-                deletedPostsCount = Math.toIntExact(redisUtils.zSetGetCount(String.format("deleted:post:ids:%s", postType),
-                        Long.valueOf(mileStoneIndex - 100), Long.valueOf(mileStoneIndex)));
-                pagingOffset = (page - mileStoneIndex) * 10;
-                calculatedOffset = pagingOffset - newPostsCount + deletedPostsCount;
-            }
+            String idsKey = buildVersionedIdsKey(postType, page, limit);
 
-            if (calculatedOffset < 0 && mileStoneIndex <= 1) {
-                int absoluteOffset = (page - 1) * 10;
-                return postService.findAbsolutePaging(limit, postType, absoluteOffset);
+            // L1 히트: 네트워크 왕복 없이 반환
+            List<PostResponse> nearCached = postNearCache.getPage(idsKey, postType);
+            if (nearCached != null) {
+                return nearCached;
             }
+            // 읽기 전 세대: 읽는 도중 무효화되면 L1 에 적재하지 않는다
+            long nearGeneration = postNearCache.currentGeneration(postType);
+
+            // 이정표 커서, offset, ID 목록을 한 번의 왕복으로 해석
+            PostPageResolver.PageResolution resolution = postPageResolver.resolve(postType, page, idsKey);
 
-            String idsKey = buildVersionedIdsKey(postType, mileStoneIndex, limit);
+            if (resolution.empty()) {
+                return new ArrayList<>();
+            }
 
-            List<String> idStrs = redisUtils.listSet(idsKey, 0, -1);
+            int pageId = resolution.pageId();
+            int pagingOffset = resolution.pagingOffset();
+            List<String> idStrs = resolution.ids();
 
-            if (idStrs != null && !idStrs.isEmpty()) {
+            if (!idStrs.isEmpty()) {
                 recordCacheAttempt(postType, "ids_hit");
 
                 // PER: TTL이 짧게 남았으면 백그라운드 갱신
-                Long ttl = redisUtils.getTtl(idsKey);
+                long ttl = resolution.idsTtl();
                 if (shouldRefreshEarly(ttl)) {
                     log.info("PER 트리거 : TTL={}초, 백그라운드 캐시 갱신 시작", ttl);
-                    self.asyncRebuild(limit, pageId, idsKey, postType, pagingOffset);
+                    self.asyncRebuild(limit, page, pageId, idsKey, postType, pagingOffset);
                 }
 
-                return handleCachedIds(idStrs, limit, pageId, idsKey, postType, pagingOffset, mileStoneIndex);
+                return handleCachedIds(idStrs, limit, page, pageId, idsKey, postType, pagingOffset, nearGeneration);
             }
 
             // Cache miss: 동기 재구성
             recordCacheAttempt(postType, "ids_miss");
-            return self.rebuildFindWithLock(limit, pageId, idsKey, postType, pagingOffset);
+            return self.rebuildFindWithLock(limit, page, pageId, idsKey, postType, pagingOffset);
 
         } finally {
             sample.stop(Timer.builder("api.posts.list")
@@ -111,23 +138,60 @@ public class PostFacade {
         }
     }
 
+    /**
+     * 게시글 목록 조회 (페이지 블롭 모드)
+     * 응답 JSON 을 byte[] 그대로 돌려주어 컨트롤러가 역직렬화 없이 내보낸다
+     * 블롭이 없으면 findPostList 로 조립한 페이지를 직렬화해 저장
+     * @param page 페이지 번호 (1부터 시작)
+     */
+    @CircuitBreaker(name = "redisDown", fallbackMethod = "handleRedisDownBlob")
+    public byte[] findPostListBlob(int limit, int page, Post.PostType postType) throws InterruptedException, JsonProcessingException {
+        String blobKey = buildVersionedBlobKey(postType, page, limit);
+
+        byte[] nearCached = postNearCache.getBlob(blobKey, postType);
+        if (nearCached != null) {
+            return nearCached;
+        }
+        long nearGeneration = postNearCache.currentGeneration(postType);
+
+        byte[] blob = postPageBlobCache.get(blobKey);
+        if (blob != null) {
+            recordCacheAttempt(postType, "blob_hit");
+            postNearCache.putBlob(blobKey, postType, nearGeneration, blob);
+            return blob;
+        }
+
+        recordCacheAttempt(postType, "blob_miss");
+        List<PostResponse> posts = findPostList(limit, page, postType);
+        byte[] rendered = objectMapper.writeValueAsBytes(posts);
+
+        if (!posts.isEmpty()) {
+            List<Long> postIds = posts.stream().map(PostResponse::postId).toList();
+            postPageBlobCache.put(blobKey, postIds, rendered, idsTtl(page));
+            postNearCache.putBlob(blobKey, postType, nearGeneration, rendered);
+        }
+        return rendered;
+    }
+
     /**
      * 캐시된 ID 목록 처리
      */
-    private List<PostResponse> handleCachedIds(List<String> idStrs, int limit, int pageId,
-                                               String idsKey, Post.PostType postType, int pagingOffset, int mileStoneIndex) throws InterruptedException {
+    private List<PostResponse> handleCachedIds(List<String> idStrs, int limit, int page, int pageId, String idsKey,
+                                               Post.PostType postType, int pagingOffset, long nearGeneration) throws InterruptedException {
         List<String> postKeys = idStrs.stream()
                 .map(this::buildVersionedPostKey)
                 .collect(Collectors.toList());
 
-        List<Object> cached = redisUtils.multiGet(postKeys);
+        List<Object> cached = redisUtils.multiGet(postKeys, postSerializer());
 
         // 완전 캐시 히트
         if (cached != null && cached.stream().allMatch(Objects::nonNull)) {
             recordCacheAttempt(postType, "full_hit");
-            return cached.stream()
-                    .map(obj -> objectMapper.convertValue(obj, PostResponse.class))
+            List<PostResponse> result = cached.stream()
+                    .map(this::toPostResponseValue)
                     .collect(Collectors.toList());
+            postNearCache.putPage(idsKey, postType, nearGeneration, postKeys, result);
+            return result;
         }
 
         // 일부 누락
@@ -135,26 +199,32 @@ public class PostFacade {
 
         if (missingIds.isEmpty()) {
             log.warn("캐시 데이터 불일치 감지. 재구성 필요: {}", idsKey);
-            return self.rebuildFindWithLock(limit, pageId, idsKey, postType, pagingOffset);
+            return self.rebuildFindWithLock(limit, page, pageId, idsKey, postType, pagingOffset);
         }
 
         // 소수 누락: 보충
         if (missingIds.size() <= MISSING_THRESHOLD) {
             recordCacheAttempt(postType, "partial_hit");
-            return repairMissingPosts(idStrs, missingIds, idsKey, limit, pageId, postType, pagingOffset, mileStoneIndex);
+            return repairMissingPosts(idStrs, postKeys, cached, missingIds, idsKey, limit, page, pageId, postType,
+                    pagingOffset, nearGeneration);
         }
 
         // 다수 누락: 재구성
         recordCacheAttempt(postType, "too_many_missing");
-        return self.rebuildFindWithLock(limit, pageId, idsKey, postType, pagingOffset);
+        return self.rebuildFindWithLock(limit, page, pageId, idsKey, postType, pagingOffset);
     }
 
     /**
      * 누락된 게시글 보충
+     * 앞서 multiGet 으로 읽은 값과 DB 에서 읽은 누락분을 메모리에서 합치므로
+     * Redis 는 누락분 파이프라인 쓰기 한 번, DB 는 IN 조회 한 번만 추가된다
+     * @param postKeys allIds 와 같은 순서의 게시글 키
+     * @param cached postKeys 의 multiGet 결과 (누락은 null)
+     * @param nearGeneration ID 목록을 읽기 전의 로컬 캐시 세대
      */
-    private List<PostResponse> repairMissingPosts(List<String> allIds, List<String> missingIds,
-                                                  String idsKey, int limit, int pageId,
-                                                  Post.PostType postType, int pagingOffset, int mileStoneIndex) throws InterruptedException {
+    private List<PostResponse> repairMissingPosts(List<String> allIds, List<String> postKeys, List<Object> cached,
+                                                  List<String> missingIds, String idsKey, int limit, int page, int pageId,
+                                                  Post.PostType postType, int pagingOffset, long nearGeneration) throws InterruptedException {
         Timer.Sample sample = Timer.start(meterRegistry);
 
         try {
@@ -168,35 +238,29 @@ public class PostFacade {
             if (missingPosts.size() < longIds.size()) {
                 log.warn("삭제된 게시글 감지. 캐시 재구성: {}", idsKey);
                 redisUtils.expire(idsKey, Duration.ofSeconds(10));
-                return self.rebuildFindWithLock(limit, pageId, idsKey, postType, pagingOffset);
+                return self.rebuildFindWithLock(limit, page, pageId, idsKey, postType, pagingOffset);
             }
 
             // 누락된 게시글만 캐싱 (파이프라인 사용)
             Map<String, Object> toCache = new HashMap<>();
             for (Post post : missingPosts) {
-                PostResponse response = toPostResponse(post);
-                toCache.put(buildVersionedPostKey(String.valueOf(post.getId())), response);
+                toCache.put(buildVersionedPostKey(String.valueOf(post.getId())), toPostResponse(post));
             }
-            redisUtils.pipelineSet(toCache, addJitter(POST_TTL));
+            redisUtils.pipelineSet(toCache, addJitter(POST_TTL), postSerializer());
 
-            // 전체 결과 조립
-            Map<Long, Post> postMap = missingPosts.stream()
-                    .collect(Collectors.toMap(Post::getId, Function.identity()));
-
-            List<PostResponse> result = new ArrayList<>();
-            for (String id : allIds) {
-                Object cachedObj = redisUtils.get(buildVersionedPostKey(id));
+            // 전체 결과 조립: 캐시에 있던 값은 그대로, 누락분은 방금 변환한 값으로
+            List<PostResponse> result = new ArrayList<>(allIds.size());
+            for (int i = 0; i < allIds.size(); i++) {
+                Object cachedObj = cached.get(i);
 
                 if (cachedObj != null) {
-                    result.add(objectMapper.convertValue(cachedObj, PostResponse.class));
+                    result.add(toPostResponseValue(cachedObj));
                 } else {
-                    Post post = postMap.get(Long.valueOf(id));
-                    if (post != null) {
-                        result.add(toPostResponse(post));
-                    }
+                    result.add((PostResponse) toCache.get(postKeys.get(i)));
                 }
             }
 
+            postNearCache.putPage(idsKey, postType, nearGeneration, postKeys, result);
             return result;
 
         } finally {
@@ -208,44 +272,84 @@ public class PostFacade {
 
     /**
      * 캐시 재구성
+     * 같은 idsKey 로 동시에 들어온 요청은 먼저 들어온 요청의 결과를 함께 받는다
      */
-    public List<PostResponse> rebuildFindWithLock(int limit, int pageId, String idsKey, Post.PostType type, int pagingOffset) {
-        Timer.Sample sample = Timer.start(meterRegistry);
+    public List<PostResponse> rebuildFindWithLock(int limit, int page, int pageId, String idsKey, Post.PostType type, int pagingOffset) {
+        AtomicBoolean loaded = new AtomicBoolean(false);
+
+        List<PostResponse> result = rebuildFlight.execute(idsKey, () -> {
+            loaded.set(true);
+            return clusterLeaseEnabled
+                    ? rebuildWithLease(limit, page, pageId, idsKey, type, pagingOffset)
+                    : rebuild(limit, page, pageId, idsKey, type, pagingOffset);
+        });
+
+        if (!loaded.get()) {
+            recordCacheAttempt(type, "rebuild_coalesced");
+        }
+        return result;
+    }
 
-        //String lockKey = "cache:rebuild:" + type + ":page:" + mileStoneOffset;
+    /**
+     * 노드 간 재구성 임대
+     * 임대를 잡은 노드만 DB 를 조회하고, 기다린 노드는 재구성된 캐시를 double-check 에서 읽는다
+     * 임대는 짧게 잡아 보유 노드가 죽어도 곧 풀리며, 대기 시간 안에 못 잡으면 그냥 직접 재구성한다
+     */
+    private List<PostResponse> rebuildWithLease(int limit, int page, int pageId, String idsKey, Post.PostType type, int pagingOffset) {
+        RLock lock = redissonClient.getLock(REBUILD_LOCK_PREFIX + idsKey);
 
+        try {
+            if (!lock.tryLock(leaseWaitMillis, leaseMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("재구성 임대 대기 초과. 직접 재구성: {}", idsKey);
+                recordCacheAttempt(type, "rebuild_lease_timeout");
+            }
+            return rebuild(limit, page, pageId, idsKey, type, pagingOffset);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("재구성 임대 대기 중 인터럽트. key=" + idsKey, e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                try {
+                    lock.unlock();
+                } catch (Exception e) {
+                    log.warn("재구성 임대 해제 실패. key={} msg={}", idsKey, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private List<PostResponse> rebuild(int limit, int page, int pageId, String idsKey, Post.PostType type, int pagingOffset) {
         try {
             log.info("캐시 재구성 시작: type={}, limit={}, offset={}", type, limit, pageId + pagingOffset);
+            long nearGeneration = postNearCache.currentGeneration(type);
 
             // Double-check
             List<String> existing = redisUtils.listSet(idsKey, 0, -1);
             if (existing != null && !existing.isEmpty()) {
-                List<Object> cached = redisUtils.multiGet(
-                        existing.stream().map(this::buildVersionedPostKey).collect(Collectors.toList()));
+                List<String> existingKeys = existing.stream().map(this::buildVersionedPostKey).collect(Collectors.toList());
+                List<Object> cached = redisUtils.multiGet(existingKeys, postSerializer());
 
                 if (cached != null && cached.stream().allMatch(Objects::nonNull)) {
                     log.info("락 획득 후 캐시 발견. DB 조회 스킵");
                     recordCacheAttempt(type, "rebuild_skip");
-                    return cached.stream()
-                            .map(obj -> objectMapper.convertValue(obj, PostResponse.class))
+                    List<PostResponse> result = cached.stream()
+                            .map(this::toPostResponseValue)
                             .collect(Collectors.toList());
+                    postNearCache.putPage(idsKey, type, nearGeneration, existingKeys, result);
+                    return result;
                 }
             }
 
-            // 카운트 캐시 무효화
-            redisUtils.delete(buildVersionedKey("posts:" + type + ":count"));
-            postService.countPost(type);
-
             // DB 조회
             List<PostResponse> postResponses = postService.findByPaging(limit, pageId, type, pagingOffset);
 
             // 개별 게시글 캐싱
-            Map<String, Object> toCache = new HashMap<>();
+            Map<String, Object> toCache = new LinkedHashMap<>();
             for (PostResponse dto : postResponses) {
                 toCache.put(buildVersionedPostKey(String.valueOf(dto.postId())), dto);
             }
             if (!toCache.isEmpty()) {
-                redisUtils.pipelineSet(toCache, addJitter(POST_TTL));
+                redisUtils.pipelineSet(toCache, addJitter(POST_TTL), postSerializer());
             }
 
             // ID 목록 캐싱
@@ -255,7 +359,14 @@ public class PostFacade {
                         .map(d -> String.valueOf(d.postId()))
                         .collect(Collectors.toList());
                 redisUtils.listRightPush(idsKey, ids);
-                redisUtils.expire(idsKey, addJitter(IDS_TTL));
+                redisUtils.expire(idsKey, idsTtl(page));
+                // 게시글 생성/삭제 시 PostCacheWriter 가 고칠 수 있도록 캐시된 페이지로 등록
+                if (page <= PostCacheWriter.MAX_REGISTERED_PAGES) {
+                    String pagesKey = buildVersionedPagesKey(type, limit);
+                    redisUtils.zSetAddAll(pagesKey, Map.of(String.valueOf(page), (double) page));
+                    redisUtils.expire(pagesKey, PostCacheWriter.REGISTRY_TTL);
+                }
+                postNearCache.putPage(idsKey, type, nearGeneration, new ArrayList<>(toCache.keySet()), postResponses);
             } else {
                 redisUtils.set(idsKey + ":empty", "1", Duration.ofSeconds(30));
             }
@@ -274,9 +385,9 @@ public class PostFacade {
      * 비동기 캐시 갱신 (PER용)
      */
     @Async
-    public void asyncRebuild(int limit, int offset, String idsKey, Post.PostType type, int pagingOffset) {
+    public void asyncRebuild(int limit, int page, int offset, String idsKey, Post.PostType type, int pagingOffset) {
         try {
-            self.rebuildFindWithLock(limit, offset, idsKey, type, pagingOffset);
+            self.rebuildFindWithLock(limit, page, offset, idsKey, type, pagingOffset);
             recordCacheAttempt(type, "per_refresh_success");
         } catch (Exception e) {
             log.warn("비동기 캐시 갱신 실패: type={}, offset={}", type, offset, e);
@@ -288,7 +399,7 @@ public class PostFacade {
     /**
      * Redis 서버 다운시
      * @param limit 가져올 게시글 갯수
-     * @param page 통짜 offset
+     * @param page 페이지 번호 (1부터 시작)
      * @param postType 게시글 타입
      * @param throwable 서킷 브레이커에 필수로 들어가야하는 인수
      * @return 페이지 리턴
@@ -296,12 +407,16 @@ public class PostFacade {
     protected List<PostResponse> handleRedisDown(int limit, int page, Post.PostType postType, Throwable throwable) {
 
         if (page > 10) {
-            log.warn("Redis 장애 상황에서 깊은 페이징 요청 차단: page={}", page + 1);
+            log.warn("Redis 장애 상황에서 깊은 페이징 요청 차단: page={}", page);
             throw new CustomException(PostErrorCode.TOO_DEEP_PAGE);
         }
 
         log.warn("Redis 서버 응답 실패. DB 직접 조회로 fallback");
-        return postService.findAbsolutePaging(limit, postType, page * 10);
+        return postService.findAbsolutePaging(limit, postType, (page - 1) * 10);
+    }
+
+    protected byte[] handleRedisDownBlob(int limit, int page, Post.PostType postType, Throwable throwable) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handleRedisDown(limit, page, postType, throwable));
     }
 
     /**
@@ -336,9 +451,36 @@ public class PostFacade {
         return missing;
     }
 
-    private String buildVersionedIdsKey(Post.PostType type, int mileStoneIndex, int limit) {
+    private String buildVersionedIdsKey(Post.PostType type, int page, int limit) {
+        return buildVersionedKey(
+                String.format("posts:ids:{%s}:page:%d:size:%d", type, page, limit)
+        );
+    }
+
+    private RedisSerializer<Object> postSerializer() {
+        return cacheSerializers.forNamespace(CacheSerializers.POST);
+    }
+
+    /**
+     * 캐시 값을 PostResponse 로 변환
+     * 바이너리 직렬화 값은 이미 PostResponse 이고, JSON 값은 Map 으로 읽히므로 변환한다
+     */
+    private PostResponse toPostResponseValue(Object cached) {
+        if (cached instanceof PostResponse post) {
+            return post;
+        }
+        return objectMapper.convertValue(cached, PostResponse.class);
+    }
+
+    private String buildVersionedPagesKey(Post.PostType type, int limit) {
+        return buildVersionedKey(
+                String.format("posts:ids:{%s}:size:%d:pages", type, limit)
+        );
+    }
+
+    private String buildVersionedBlobKey(Post.PostType type, int page, int limit) {
         return buildVersionedKey(
-                String.format("posts:ids:%s:page:%d:size:%d", type, mileStoneIndex, limit)
+                String.format("posts:blob:{%s}:page:%d:size:%d", type, page, limit)
         );
     }
 
@@ -350,6 +492,14 @@ public class PostFacade {
         return redisUtils.versionedKey(CACHE_VERSION, key);
     }
 
+    /**
+     * 페이지 ID 목록/블롭 TTL
+     * 등록되지 않는 깊은 페이지는 생성/삭제 때 고쳐지지 않으므로 짧게 둔다
+     */
+    private Duration idsTtl(int page) {
+        return page <= PostCacheWriter.MAX_REGISTERED_PAGES ? addJitter(IDS_TTL) : UNREGISTERED_IDS_TTL;
+    }
+
     /**
      * 캐시 TTL에 무작위성 추가
      * @param baseTtl 원본 캐시 TTL
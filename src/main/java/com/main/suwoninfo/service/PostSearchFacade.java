@@ -0,0 +1,47 @@
+package com.main.suwoninfo.service;
+
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.dto.PostResponse;
+import com.main.suwoninfo.redis.SearchResultCache;
+import com.main.suwoninfo.search.SuggestIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 캐시 적용 (페이지 번호 검색)
+ * 정규화된 (키워드, 타입, 페이지) 로 캐시를 먼저 보고, 없으면 전문 검색 결과와 검색 결과 수를 함께 채운다
+ * 첫 페이지 검색은 자동완성용 검색어로 집계한다
+ */
+@Service
+@RequiredArgsConstructor
+public class PostSearchFacade {
+
+    private final PostService postService;
+    private final SearchResultCache searchResultCache;
+    private final SuggestIndex suggestIndex;
+
+    public SearchResultCache.SearchPage search(String keyword, int limit, int page, Post.PostType type) {
+        String normalized = SearchResultCache.normalize(keyword);
+        if (normalized == null) {
+            return new SearchResultCache.SearchPage(new ArrayList<>(), 0);
+        }
+
+        SearchResultCache.SearchPage result = searchResultCache.get(type, normalized, page);
+        if (result == null) {
+            List<PostResponse> posts = postService.searchPost(normalized, limit, (page - 1) * limit, type);
+            long totalCount = postService.countSearch(normalized, type);
+
+            result = new SearchResultCache.SearchPage(posts, totalCount);
+            searchResultCache.put(type, normalized, page, result);
+        }
+
+        // 첫 페이지에서 결과가 있었던 검색어만 자동완성 집계
+        if (page == 1) {
+            suggestIndex.recordQuery(keyword, result.totalCount());
+        }
+        return result;
+    }
+}
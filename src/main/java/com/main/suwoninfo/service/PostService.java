@@ -1,23 +1,29 @@
 package com.main.suwoninfo.service;
 
 import com.main.suwoninfo.domain.*;
+import com.main.suwoninfo.dto.PostPageResponse;
 import com.main.suwoninfo.dto.PostRequest;
 import com.main.suwoninfo.dto.PostResponse;
+import com.main.suwoninfo.exception.CommonErrorCode;
 import com.main.suwoninfo.exception.CustomException;
 import com.main.suwoninfo.exception.PostErrorCode;
 import com.main.suwoninfo.exception.UserErrorCode;
+import com.main.suwoninfo.redis.PostChangedEvent;
+import com.main.suwoninfo.repository.PostOutboxRepository;
 import com.main.suwoninfo.repository.PostRepository;
-import com.main.suwoninfo.repository.PostStatisticsRepository;
+import com.main.suwoninfo.repository.PostSearchRepository;
 import com.main.suwoninfo.repository.UserRepository;
-import com.main.suwoninfo.utils.RedisUtils;
+import com.main.suwoninfo.search.TitleSearchIndex;
 import com.main.suwoninfo.utils.ToUtils;
 import lombok.RequiredArgsConstructor;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,12 +36,15 @@ import static com.main.suwoninfo.utils.ToUtils.toPostResponse;
 public class PostService {
 
     private final PostRepository postRepository;
+    private final PostSearchRepository postSearchRepository;
+    private final TitleSearchIndex titleSearchIndex;
     private final UserRepository userRepository;
-    private final PostStatisticsRepository postStatisticsRepository;
-
-    private static final String CACHE_VERSION = "v1";
-    private final RedisUtils redisUtils;
+    private final PostOutboxRepository postOutboxRepository;
+    private final PostStatisticsService postStatisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Value("${search.fulltext.max-count:1000}")
+    private int maxSearchCount; // 전문 검색 결과 수를 이 값까지만 센다
 
     @Transactional
     public PostResponse post(Long userId, PostRequest postReq) {
@@ -51,10 +60,12 @@ public class PostService {
                 .build();
         post.setUser(user);
         postRepository.post(post);
-        PostStatistics postStatistics = postStatisticsRepository.findByType(postReq.postType());
-        postStatistics.addCount();
-        redisUtils.increment("new_" + post.getPostType() + "_posts_count");
-        return toPostResponse(post);
+        postStatisticsService.increment(post.getPostType());
+        saveOutbox(post.getId(), post.getPostType(), PostOutbox.EventType.CREATED);
+        PostResponse response = toPostResponse(post);
+        eventPublisher.publishEvent(new PostChangedEvent(this, post.getId(), post.getPostType(),
+                PostChangedEvent.ChangeType.CREATED, response, null));
+        return response;
     }
 
     @Transactional
@@ -65,7 +76,22 @@ public class PostService {
         if (findPost.getUser() != findUser)
             throw new CustomException(PostErrorCode.NOT_EQUAL_USER);
 
+        Post.PostType beforeType = findPost.getPostType();
+        String beforeTitle = findPost.getTitle();
         findPost.update(postDto);
+
+        PostResponse response = toPostResponse(findPost);
+        eventPublisher.publishEvent(new PostChangedEvent(this, postId, beforeType,
+                PostChangedEvent.ChangeType.UPDATED, response, beforeType, beforeTitle));
+        // 타입이 바뀐 경우 옮겨간 쪽 목록도 갱신
+        if (findPost.getPostType() != beforeType) {
+            postStatisticsService.decrement(beforeType);
+            postStatisticsService.increment(findPost.getPostType());
+            saveOutbox(postId, beforeType, PostOutbox.EventType.DELETED);
+            saveOutbox(postId, findPost.getPostType(), PostOutbox.EventType.MOVED_IN);
+            eventPublisher.publishEvent(new PostChangedEvent(this, postId, findPost.getPostType(),
+                    PostChangedEvent.ChangeType.UPDATED, response, beforeType, beforeTitle));
+        }
     }
 
     @Transactional
@@ -77,53 +103,197 @@ public class PostService {
         if (!Objects.equals(post.getUser().getId(), user.getId()))
             throw new CustomException(PostErrorCode.NOT_EQUAL_USER);
 
-        PostStatistics postStatistics = postStatisticsRepository.findByType(post.getPostType());
-        postStatistics.minusCount();
+        postStatisticsService.decrement(post.getPostType());
 
-        redisUtils.zSetSet("deleted:post:ids:" + post.getPostType(), postId);
         postRepository.delete(post);
+        saveOutbox(postId, post.getPostType(), PostOutbox.EventType.DELETED);
+        eventPublisher.publishEvent(new PostChangedEvent(this, postId, post.getPostType(),
+                PostChangedEvent.ChangeType.DELETED, null, null, post.getTitle()));
+    }
+
+    /**
+     * 이정표 커서 반영용 아웃박스 기록 (같은 트랜잭션, 롤백되면 함께 사라짐)
+     */
+    private void saveOutbox(Long postId, Post.PostType postType, PostOutbox.EventType eventType) {
+        postOutboxRepository.save(PostOutbox.builder()
+                .postId(postId)
+                .postType(postType)
+                .eventType(eventType)
+                .build());
     }
 
     public Post findById(Long id) {
         return postRepository.findById(id).orElseThrow(() -> new CustomException(PostErrorCode.NOT_EXIST_POST));
     }
 
-    @Transactional
-    public int countPost(Post.PostType postType) {
+    /**
+     * 전문 검색 (관련도순, 페이지 번호)
+     */
+    public List<PostResponse> searchPost(String keyword, int limit, int offset, Post.PostType postType) {
+        String query = PostSearchRepository.toBooleanQuery(keyword);
+        if (query == null) {
+            return new ArrayList<>();
+        }
+        return toOrderedResponses(postSearchRepository.search(query, postType, limit, offset));
+    }
 
-        String cacheKey = "posts:" + postType + ":count";
-        Object cached = redisUtils.get(redisUtils.versionedKey(CACHE_VERSION, cacheKey));
+    /**
+     * 전문 검색 결과 수 (최대 maxSearchCount)
+     * 흔한 단어는 일치 행이 많아 전부 세면 느리므로 상한까지만 센다
+     */
+    public long countSearch(String keyword, Post.PostType postType) {
+        String query = PostSearchRepository.toBooleanQuery(keyword);
+        return query == null ? 0 : postSearchRepository.count(query, postType, maxSearchCount);
+    }
 
-        if (cached != null) {
-            return Integer.parseInt(cached.toString());
+    /**
+     * 제목 검색 (메모리 색인, 최신순)
+     * 색인이 아직 적재되지 않았으면 전문 검색으로 대신한다
+     * @param cursor 이전 응답의 nextCursor (null 이면 offset 부터, 빈 값이면 첫 페이지)
+     */
+    public PostPageResponse searchTitle(String keyword, int limit, int offset, Post.PostType postType, String cursor) {
+        if (!titleSearchIndex.isReady()) {
+            return cursor == null
+                    ? PostPageResponse.builder().posts(searchPost(keyword, limit, offset, postType)).build()
+                    : searchByCursor(keyword, limit, postType, cursor);
         }
 
-        int count = postStatisticsRepository.countPost(postType);
-        redisUtils.stringSet(cacheKey, String.valueOf(count), Duration.ofMinutes(5));
+        List<Long> ids = titleSearchIndex.search(postType, keyword, decodeCursor(cursor), cursor == null ? offset : 0, limit);
+        List<PostResponse> posts = postRepository.findAllById(ids).stream()
+                .map(ToUtils::toPostResponse)
+                .collect(Collectors.toList());
+        String nextCursor = ids.size() < limit ? null : encodeCursor(ids.get(ids.size() - 1));
 
-        return count;
+        return PostPageResponse.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .build();
     }
 
-    public List<PostResponse> searchPost(String keyword, int limit, int offset, Post.PostType postType) {
-        List<Post> postList = postRepository.findByTitle(keyword, limit, offset, postType);
-        return postList.stream().map(ToUtils::toPostResponse).toList();
+    /**
+     * 전문 검색 (관련도순, search-after)
+     * 페이지 깊이와 무관하게 매 페이지가 모든 일치 행을 점수 매겨 정렬한다 ({@link PostSearchRepository#searchAfter})
+     * @param cursor 이전 응답의 nextCursor (null 또는 빈 값이면 첫 페이지)
+     */
+    public PostPageResponse searchByCursor(String keyword, int limit, Post.PostType postType, String cursor) {
+        String query = PostSearchRepository.toBooleanQuery(keyword);
+        if (query == null) {
+            return PostPageResponse.builder().posts(new ArrayList<>()).build();
+        }
+
+        List<PostSearchRepository.ScoredId> hits =
+                postSearchRepository.searchAfter(query, postType, limit, decodeSearchCursor(cursor));
+        String nextCursor = hits.size() < limit ? null : encodeSearchCursor(hits.get(hits.size() - 1));
+
+        return PostPageResponse.builder()
+                .posts(toOrderedResponses(hits))
+                .nextCursor(nextCursor)
+                .build();
     }
 
     public List<Post> findAllById(List<Long> longIds) {
         return postRepository.findAllById(longIds);
     }
 
+    /**
+     * 이정표 커서 기준 페이징 (페이지 번호 모드용 어댑터)
+     * 이정표에서 pagingOffset 만큼은 인덱스만 건너뛰어 시작 커서를 찾고, 본문은 시작 커서부터 limit 건만 읽는다
+     * @param mileStoneOffset 이정표 커서, 0 이면 가장 최신 게시글부터
+     */
     public List<PostResponse> findByPaging(int limit, int mileStoneOffset, Post.PostType postType, int pagingOffset) {
         log.info("limit {}, mileStoneOffset {}, postType {}, pagingOffset {}", limit, mileStoneOffset, postType, pagingOffset);
 
-        return postRepository.findByCursorPaging(limit, mileStoneOffset, postType, pagingOffset).stream().map(ToUtils::toPostResponse).collect(Collectors.toList());
+        if (mileStoneOffset <= 0) {
+            return findAbsolutePaging(limit, postType, pagingOffset);
+        }
+
+        Long startId = pagingOffset == 0
+                ? Long.valueOf(mileStoneOffset)
+                : postRepository.findCursorByOffset(postType, (long) mileStoneOffset, pagingOffset);
+
+        return findFromCursor(limit, postType, startId);
     }
 
     public List<PostResponse> findAbsolutePaging(int limit, Post.PostType postType, int absoluteOffset) {
 
-        return postRepository.findAbsolutePaging(limit, postType, absoluteOffset).stream().map(ToUtils::toPostResponse).collect(Collectors.toList());
+        Long startId = postRepository.findCursorByOffset(postType, null, absoluteOffset);
+        return findFromCursor(limit, postType, startId);
+    }
+
+    /**
+     * 키셋 페이징
+     * @param cursor 이전 응답의 nextCursor (null 또는 빈 값이면 첫 페이지)
+     * @return 게시글 목록과 다음 커서 (마지막 페이지면 null)
+     */
+    public PostPageResponse findByCursor(int limit, Post.PostType postType, String cursor) {
+        List<PostResponse> posts = postRepository.findByKeyset(limit, postType, decodeCursor(cursor)).stream()
+                .map(ToUtils::toPostResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = posts.size() < limit ? null : encodeCursor(posts.get(posts.size() - 1).postId());
+
+        return PostPageResponse.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<PostResponse> findFromCursor(int limit, Post.PostType postType, Long startId) {
+        if (startId == null) {
+            return new ArrayList<>();
+        }
+        return postRepository.findFromCursor(limit, postType, startId).stream().map(ToUtils::toPostResponse).collect(Collectors.toList());
     }
-}
 
+    private List<PostResponse> toOrderedResponses(List<PostSearchRepository.ScoredId> hits) {
+        List<Long> ids = hits.stream().map(PostSearchRepository.ScoredId::postId).toList();
+        return postRepository.findAllById(ids).stream().map(ToUtils::toPostResponse).collect(Collectors.toList());
+    }
 
+    // "관련도:post_id"
+    private String encodeSearchCursor(PostSearchRepository.ScoredId last) {
+        return encodeCursor(last.score() + ":" + last.postId());
+    }
+
+    private PostSearchRepository.ScoredId decodeSearchCursor(String cursor) {
+        String decoded = decodeCursorValue(cursor);
+        if (decoded == null) {
+            return null;
+        }
+        // 페이지 번호가 붙어 있던 커서(관련도:post_id:페이지)도 앞 두 값만 읽는다
+        String[] parts = decoded.split(":");
+        try {
+            return new PostSearchRepository.ScoredId(Long.valueOf(parts[1]), Double.parseDouble(parts[0]));
+        } catch (RuntimeException e) {
+            throw new CustomException(CommonErrorCode.INVALID_PARAMETER);
+        }
+    }
 
+    private String encodeCursor(Object value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Long decodeCursor(String cursor) {
+        String decoded = decodeCursorValue(cursor);
+        if (decoded == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(decoded);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(CommonErrorCode.INVALID_PARAMETER);
+        }
+    }
+
+    private String decodeCursorValue(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(CommonErrorCode.INVALID_PARAMETER);
+        }
+    }
+}
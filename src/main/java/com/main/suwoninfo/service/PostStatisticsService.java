@@ -0,0 +1,89 @@
+package com.main.suwoninfo.service;
+
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.repository.PostStatisticsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 수 증감
+ * 기본은 같은 트랜잭션에서 임의의 슬롯 행에 더해 쓰기끼리 한 행을 두고 기다리지 않게 한다
+ * buffered 를 켜면 메모리에 모았다가 짧은 주기로 한 번에 반영한다
+ * (쓰기 경로에서 DB 갱신이 사라지는 대신 롤백과 무관하게 반영되고, 반영 전 종료되면 그만큼 유실된다)
+ */
+@Slf4j
+@Service
+public class PostStatisticsService {
+
+    private final PostStatisticsRepository postStatisticsRepository;
+    private final int slots;
+    private final boolean buffered;
+    private final Map<Post.PostType, LongAdder> pending = new EnumMap<>(Post.PostType.class);
+
+    public PostStatisticsService(PostStatisticsRepository postStatisticsRepository,
+                                 @Value("${post.statistics.slots:8}") int slots,
+                                 @Value("${post.statistics.buffered:false}") boolean buffered) {
+        this.postStatisticsRepository = postStatisticsRepository;
+        this.slots = Math.max(1, slots);
+        this.buffered = buffered;
+        for (Post.PostType type : Post.PostType.values()) {
+            pending.put(type, new LongAdder());
+        }
+    }
+
+    public void increment(Post.PostType postType) {
+        add(postType, 1);
+    }
+
+    public void decrement(Post.PostType postType) {
+        add(postType, -1);
+    }
+
+    private void add(Post.PostType postType, long delta) {
+        if (buffered) {
+            pending.get(postType).add(delta);
+            return;
+        }
+        postStatisticsRepository.addCount(postType, randomSlot(), delta);
+    }
+
+    /**
+     * 모아 둔 증감 반영, 실패하면 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${post.statistics.flush-millis:300}")
+    public void flush() {
+        if (!buffered) {
+            return;
+        }
+
+        pending.forEach((type, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0) {
+                return;
+            }
+            try {
+                postStatisticsRepository.addCount(type, randomSlot(), delta);
+            } catch (Exception e) {
+                adder.add(delta);
+                log.warn("게시글 수 반영 실패. 다음 주기에 재시도: type={}, delta={}, msg={}", type, delta, e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private int randomSlot() {
+        return ThreadLocalRandom.current().nextInt(slots);
+    }
+}
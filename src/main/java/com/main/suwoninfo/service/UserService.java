@@ -7,6 +7,9 @@ import com.main.suwoninfo.dto.UserResponse;
 import com.main.suwoninfo.exception.*;
 import com.main.suwoninfo.jwt.CustomAuthenticationProvider;
 import com.main.suwoninfo.jwt.JwtTokenProvider;
+import com.main.suwoninfo.jwt.TokenBlacklist;
+import com.main.suwoninfo.jwt.TokenReissuer;
+import com.main.suwoninfo.jwt.VerifiedTokenCache;
 import com.main.suwoninfo.repository.UserRepository;
 import com.main.suwoninfo.utils.RedisUtils;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +35,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final CustomAuthenticationProvider authenticationProvider;
     private final JwtTokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenReissuer tokenReissuer;
     private final PasswordEncoder passwordEncoder;
     private final RedisUtils redisUtils;
 
@@ -121,37 +127,16 @@ public class UserService {
         return toUserResponse(user);
     }
 
-    @Transactional
+    // 동시 요청 합치기와 짧은 결과 캐시는 TokenReissuer 에서 처리
     public TokenResponse reissue(String requestAccessToken, String requestRefreshToken) {
-        if (!tokenProvider.validateToken(requestRefreshToken).getValid()) {
-            throw new CustomException(UserErrorCode.INVALID_USER_TOKEN);
-        }
-
-        Authentication authentication = tokenProvider.getAuthentication(requestAccessToken);
-
-        Optional<String> refreshTokenOptional =
-                Optional.ofNullable((String) redisUtils.get("RT:" + authentication.getName()));
-        String refreshToken = refreshTokenOptional.orElseThrow(() -> new CustomException(UserErrorCode.REFRESH_TOKEN_NOT_FOUND_IN_REDIS));
-
-        if (!tokenProvider.validateToken(refreshToken).getValid()) {
-            redisUtils.delete("RT:" + authentication.getName());
-            throw new CustomException(UserErrorCode.REFRESH_TOKEN_EXPIRED);
-        }
-
-        if (!requestRefreshToken.equals(refreshToken)) {
-            throw new CustomException(UserErrorCode.TOKEN_MISMATCH_BETWEEN_CLIENT_AND_SERVER);
-        }
-
-        TokenResponse tokenResponse = tokenProvider.generateToken(authentication);
-        redisUtils.delete(tokenResponse.refreshToken());
-        redisUtils.set("RT:" + authentication.getName(), tokenResponse.refreshToken(), Duration.ofMinutes(1440));
-
-        return tokenResponse;
+        return tokenReissuer.reissue(requestAccessToken, requestRefreshToken);
     }
 
     public void logout(String username, String accessToken) {
 
-        redisUtils.setBlackList(accessToken.substring(7), "accessToken", Duration.ofMinutes(120));
+        // 블랙리스트 등록과 함께 모든 노드의 로컬 필터에 전파
+        tokenBlacklist.add(accessToken.substring(7), TokenBlacklist.MAX_TTL);
+        verifiedTokenCache.invalidate(accessToken.substring(7));
         redisUtils.delete("RT:" + username);
     }
 
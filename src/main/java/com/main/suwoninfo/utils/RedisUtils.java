@@ -1,31 +1,59 @@
 package com.main.suwoninfo.utils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class RedisUtils {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisTemplate<String, Object> redisBlackListTemplate;
     private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final String GENERATION_KEY_PREFIX = "cache:generation:";
+
+    // 버전별 현재 세대 (로컬 캐시, refreshGenerations 로 갱신)
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    // 값 타입별 직렬화 (한 번 만들어 재사용, 공유 템플릿의 직렬화는 건드리지 않는다)
+    private final Map<Class<?>, RedisSerializer<Object>> typedSerializers = new ConcurrentHashMap<>();
 
     public void set(String key, Object o, Duration minutes) {
-        redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer(o.getClass()));
-        redisTemplate.opsForValue().set(key, o, minutes);
+        setTyped(redisTemplate, key, o, minutes);
     }
 
     public void increment(String key) {
@@ -57,8 +85,23 @@ public class RedisUtils {
     }
 
     public void setBlackList(String key, Object o, Duration minutes) {
-        redisBlackListTemplate.setValueSerializer(new Jackson2JsonRedisSerializer(o.getClass()));
-        redisBlackListTemplate.opsForValue().set(key, o, minutes);
+        setTyped(redisBlackListTemplate, key, o, minutes);
+    }
+
+    /**
+     * 값의 클래스에 맞는 직렬화로 바이트를 만들어 바로 SET
+     */
+    private void setTyped(RedisTemplate<String, Object> template, String key, Object o, Duration ttl) {
+        byte[] value = typedSerializer(o.getClass()).serialize(o);
+
+        template.execute((RedisCallback<Object>) connection ->
+                connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), value,
+                        Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+    }
+
+    private RedisSerializer<Object> typedSerializer(Class<?> type) {
+        return typedSerializers.computeIfAbsent(type,
+                t -> new Jackson2JsonRedisSerializer<>(objectMapper, objectMapper.constructType(t)));
     }
 
     public Object getBlackList(String key) {
@@ -90,6 +133,22 @@ public class RedisUtils {
     }
 
 
+    /**
+     * 지정한 직렬화로 여러 키 조회 (네임스페이스별 직렬화용)
+     */
+    public List<Object> multiGet(List<String> keys, RedisSerializer<?> valueSerializer) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        }, valueSerializer);
+    }
+
     public Long getTtl(String key) {
         return redisTemplate.getExpire(key, TimeUnit.SECONDS);
     }
@@ -116,6 +175,22 @@ public class RedisUtils {
         });
     }
 
+    /**
+     * 지정한 직렬화로 여러 키 저장 (네임스페이스별 직렬화용)
+     */
+    public void pipelineSet(Map<String, Object> keyValues, Duration ttl, RedisSerializer<Object> valueSerializer) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keyValues.forEach((key, value) -> {
+                byte[] valueBytes = valueSerializer.serialize(value);
+                if (valueBytes != null) {
+                    connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), valueBytes,
+                            Expiration.from(ttl), RedisStringCommands.SetOption.upsert());
+                }
+            });
+            return null;
+        });
+    }
+
     public Long pipelineDelete(List<String> keys) {
         if (keys == null || keys.isEmpty()) {
             return 0L;
@@ -123,26 +198,157 @@ public class RedisUtils {
         return redisTemplate.delete(keys);
     }
 
+    /**
+     * 버전 + 세대가 붙은 캐시 키
+     * 세대 0 은 기존 형식(v1:key), 이후는 v1.{세대}:key
+     */
     public String versionedKey(String version, String key) {
-        return version + ":" + key;
+        return versionPrefix(version) + ":" + key;
+    }
+
+    public String versionPrefix(String version) {
+        long generation = generation(version);
+        return generation == 0 ? version : version + "." + generation;
+    }
+
+    public long generation(String version) {
+        return generations.computeIfAbsent(version, this::loadGeneration);
     }
 
     public void zSetSet(String key, Long o) {
         stringRedisTemplate.opsForZSet().add(key, String.valueOf(o), o);
     }
 
+    public void zSetAddAll(String key, Map<String, Double> scoredMembers) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        scoredMembers.forEach((member, score) -> tuples.add(new DefaultTypedTuple<>(member, score)));
+        stringRedisTemplate.opsForZSet().add(key, tuples);
+    }
+
     public Long zSetGetCount(String key, Long min, Long max) {
         return stringRedisTemplate.opsForZSet().count(key, min, max);
     }
 
+    public void zSetIncrement(String key, String member, double delta) {
+        stringRedisTemplate.opsForZSet().incrementScore(key, member, delta);
+    }
+
+    /**
+     * 점수 상위 count 개 (점수 내림차순)
+     */
+    public Map<String, Double> zSetTopWithScores(String key, int count) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, count - 1);
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (tuples != null) {
+            tuples.forEach(tuple -> result.put(tuple.getValue(), tuple.getScore()));
+        }
+        return result;
+    }
+
+    /**
+     * 점수 상위 keep 개만 남기고 삭제
+     */
+    public Long zSetTrimToTop(String key, int keep) {
+        return stringRedisTemplate.opsForZSet().removeRange(key, 0, -(keep + 1L));
+    }
+
+    public Set<String> zSetRange(String key, long start, long end) {
+        Set<String> members = stringRedisTemplate.opsForZSet().range(key, start, end);
+        return (members != null) ? members : Collections.emptySet();
+    }
 
+    public Long zSetRemove(String key, Collection<String> members) {
+        if (members.isEmpty()) {
+            return 0L;
+        }
+        return stringRedisTemplate.opsForZSet().remove(key, members.toArray());
+    }
+
+    public Long zSetRemoveRangeByScore(String key, double min, double max) {
+        return stringRedisTemplate.opsForZSet().removeRangeByScore(key, min, max);
+    }
+
+    public List<String> hashMultiGet(String key, List<String> fields) {
+        return stringRedisTemplate.<String, String>opsForHash().multiGet(key, fields);
+    }
+
+
+    /**
+     * 버전 전체 무효화
+     * 세대 카운터만 올리고(O(1)) 이전 세대 키는 TTL 로 만료되거나 CacheKeyReclaimScheduler 가 정리한다
+     */
     public void invalidateVersion(String version) {
-        List<String> keysToDelete = keys(version + ":*");
-        if (!keysToDelete.isEmpty()) {
-            pipelineDelete(keysToDelete);
+        Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + version);
+        if (generation != null) {
+            generations.put(version, generation);
+        }
+    }
+
+    /**
+     * 다른 노드에서 올린 세대를 반영
+     */
+    @Scheduled(fixedDelayString = "${cache.generation.refresh-millis:1000}")
+    public void refreshGenerations() {
+        for (String version : generations.keySet()) {
+            generations.put(version, loadGeneration(version));
         }
     }
 
+    /**
+     * Redis 에 기록된 세대를 로컬 값 없이 바로 읽음 (실패하면 예외)
+     */
+    public long readGeneration(String version) {
+        String generation = stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + version);
+        return (generation != null) ? Long.parseLong(generation) : 0L;
+    }
+
+    private long loadGeneration(String version) {
+        try {
+            return readGeneration(version);
+        } catch (Exception e) {
+            // Redis 장애 중에는 키가 쓰이지 않으므로 마지막 값을 유지하고 다음 갱신에서 다시 읽는다
+            log.warn("캐시 세대 조회 실패: version={}, msg={}", version, e.getMessage());
+            return generations.getOrDefault(version, 0L);
+        }
+    }
+
+    /**
+     * SCAN 으로 패턴에 맞는 키를 훑으며 filter 를 통과한 키를 batchSize 단위로 UNLINK
+     * KEYS 와 달리 한 번에 batchSize 만큼만 처리해 Redis 이벤트 루프를 오래 막지 않는다
+     * @return 삭제 요청한 키 수
+     */
+    public long unlinkMatching(String pattern, int batchSize, Predicate<String> filter) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        List<String> batch = new ArrayList<>(batchSize);
+        long unlinked = 0;
+
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                if (!filter.test(key)) {
+                    continue;
+                }
+
+                batch.add(key);
+                if (batch.size() >= batchSize) {
+                    unlinked += unlink(batch);
+                }
+            }
+        }
+
+        return unlinked + unlink(batch);
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long count = stringRedisTemplate.unlink(keys);
+        keys.clear();
+        return (count != null) ? count : 0;
+    }
+
     public List<String> listSet(String key, int start, int end) {
         List<String> r = stringRedisTemplate.opsForList().range(key, start, end);
         return (r != null) ? r : Collections.emptyList();
@@ -156,6 +362,14 @@ public class RedisUtils {
         stringRedisTemplate.opsForValue().set(key, value);
     }
 
+    public boolean stringSetIfAbsent(String key, String value) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, value));
+    }
+
+
+    public void rename(String oldKey, String newKey) {
+        stringRedisTemplate.rename(oldKey, newKey);
+    }
 
     public void listRightPush(String key, List<String> list) {
         stringRedisTemplate.opsForList().rightPushAll(key, list);
@@ -165,15 +379,96 @@ public class RedisUtils {
         return stringRedisTemplate.opsForValue().get(key);
     }
 
-    public List<String> keys(String pattern) {
-        return stringRedisTemplate.keys(pattern)
-                .stream()
-                .toList();
-    }
-
     public void zSetDelete(String s) {
         stringRedisTemplate.opsForZSet().remove(s);
     }
 
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return stringRedisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    /**
+     * 같은 스크립트를 인자만 바꿔 여러 번 실행 (파이프라인, 한 번의 왕복)
+     * 본문 대신 SHA1 으로 EVALSHA 하고, 서버에 스크립트가 없으면(NOSCRIPT) SCRIPT LOAD 후 한 번 다시 보낸다
+     * NOSCRIPT 면 파이프라인의 어떤 호출도 실행되지 않았으므로 다시 보내도 중복 반영되지 않는다
+     * @param argsList 호출마다의 인자
+     */
+    public List<Object> pipelineScript(RedisScript<?> script, List<String> keys, List<List<String>> argsList) {
+        try {
+            return pipelineEvalSha(script, keys, argsList);
+        } catch (RuntimeException e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+            stringRedisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8)));
+            return pipelineEvalSha(script, keys, argsList);
+        }
+    }
+
+    private List<Object> pipelineEvalSha(RedisScript<?> script, List<String> keys, List<List<String>> argsList) {
+        String sha1 = script.getSha1();
+        ReturnType returnType = ReturnType.fromJavaType(script.getResultType());
+
+        return stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (List<String> args : argsList) {
+                byte[][] keysAndArgs = new byte[keys.size() + args.size()][];
+                int i = 0;
+                for (String key : keys) {
+                    keysAndArgs[i++] = key.getBytes(StandardCharsets.UTF_8);
+                }
+                for (String arg : args) {
+                    keysAndArgs[i++] = arg.getBytes(StandardCharsets.UTF_8);
+                }
+                connection.scriptingCommands().evalSha(sha1, returnType, keys.size(), keysAndArgs);
+            }
+            return null;
+        });
+    }
+
+    private boolean isNoScriptError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void publish(String channel, String message) {
+        stringRedisTemplate.convertAndSend(channel, message);
+    }
+
+    public byte[] getBytes(String key) {
+        return stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public void setBytes(String key, byte[] value, Duration ttl) {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection ->
+                connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), value,
+                        Expiration.from(ttl), RedisStringCommands.SetOption.upsert()));
+    }
+
+    /**
+     * 여러 Set 에 멤버 하나씩 추가하고 TTL 갱신 (파이프라인)
+     * @param keyMembers Set 키 -> 추가할 멤버
+     */
+    public void pipelineSetAdd(Map<String, String> keyMembers, Duration ttl) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            keyMembers.forEach((key, member) -> {
+                byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+                connection.setCommands().sAdd(keyBytes, member.getBytes(StandardCharsets.UTF_8));
+                connection.keyCommands().expire(keyBytes, ttl.getSeconds());
+            });
+            return null;
+        });
+    }
+
+    public Set<String> setMembers(String key) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(key);
+        return (members != null) ? members : Collections.emptySet();
+    }
+
 
 }
@@ -0,0 +1,145 @@
+-- 게시글 생성/삭제(타입 이동 포함) 시 캐시된 페이지 ID 목록을 재구성 없이 고친다
+-- 목록은 ID 내림차순이므로 새 ID 는 자기 위치에 끼워 넣고 뒤 페이지는 한 칸씩 밀고,
+-- 삭제된 ID 는 빼고 뒤 페이지의 맨 앞 ID 를 한 칸씩 당겨 온다
+-- 앞/뒤 페이지가 캐시에 없어 넘겨줄 ID 를 알 수 없는 페이지는 지워서 다음 조회 때 재구성되게 한다
+-- 한 번에 고치는 페이지는 ARGV[4] 개까지이고, 그 뒤로 밀려야 하는 페이지는 지운다
+-- 내용이 바뀌거나 지워진 페이지의 블롭도 함께 지운다
+-- KEYS[1] 캐시된 페이지 번호 ZSET (member = 페이지 번호, score = 페이지 번호)
+-- KEYS[2i], KEYS[2i+1] ARGV[4+i] 페이지의 ID 목록 키, 블롭 키
+-- ARGV[1] 'insert' | 'remove', ARGV[2] 게시글 ID, ARGV[3] 페이지 크기
+-- ARGV[4] 한 번에 고칠 최대 페이지 수, ARGV[5..] 호출 전에 읽은 페이지 번호 (오름차순)
+-- 반환: 고친 페이지 수, 호출 전에 읽은 뒤 새로 등록된 페이지가 있으면 -1 (다시 읽어서 호출)
+
+local mode = ARGV[1]
+local postId = tonumber(ARGV[2])
+local size = tonumber(ARGV[3])
+local maxPatched = tonumber(ARGV[4])
+
+local slots = {}
+for i = 5, #ARGV do
+    slots[ARGV[i]] = i - 4
+end
+
+local pages = redis.call('ZRANGE', KEYS[1], 0, -1)
+for _, page in ipairs(pages) do
+    if not slots[page] then
+        return -1
+    end
+end
+
+local function idsKey(page)
+    return KEYS[slots[page] * 2]
+end
+
+local function blobKey(page)
+    return KEYS[slots[page] * 2 + 1]
+end
+
+local function drop(page)
+    redis.call('DEL', idsKey(page), blobKey(page))
+    redis.call('ZREM', KEYS[1], page)
+end
+
+local patched = 0
+
+if mode == 'insert' then
+    local prev = 0          -- 내용이 유효한 직전 페이지 번호
+    local carry = nil       -- 앞 페이지에서 밀려난 ID
+    local shifting = false  -- 삽입 위치를 지나 뒤 페이지를 미는 중
+    local broken = false    -- 밀려난 ID 를 알 수 없거나 고칠 수 있는 페이지 수를 넘어 이후 페이지는 모두 제거
+
+    for _, page in ipairs(pages) do
+        local p = tonumber(page)
+        local key = idsKey(page)
+        local len = redis.call('LLEN', key)
+
+        if len == 0 then
+            redis.call('ZREM', KEYS[1], page)
+            if shifting then
+                broken = true
+            end
+        elseif broken or (shifting and (p ~= prev + 1 or not carry or patched >= maxPatched)) then
+            broken = true
+            drop(page)
+        elseif shifting then
+            redis.call('LPUSH', key, carry)
+            carry = (len + 1 > size) and redis.call('RPOP', key) or nil
+            redis.call('DEL', blobKey(page))
+            patched = patched + 1
+            prev = p
+        elseif postId > tonumber(redis.call('LINDEX', key, -1)) then
+            local first = tonumber(redis.call('LINDEX', key, 0))
+
+            if postId > first and p ~= 1 and p ~= prev + 1 then
+                -- 앞 페이지가 캐시에 없어 이 페이지 맨 앞에 올지 알 수 없음
+                broken = true
+                drop(page)
+            else
+                if postId > first then
+                    redis.call('LPUSH', key, ARGV[2])
+                else
+                    local items = redis.call('LRANGE', key, 0, -1)
+                    for i = 1, #items do
+                        local id = tonumber(items[i])
+                        if id == postId then
+                            return patched -- 이미 반영됨
+                        end
+                        if id < postId then
+                            redis.call('LINSERT', key, 'BEFORE', items[i], ARGV[2])
+                            break
+                        end
+                    end
+                end
+
+                carry = (len + 1 > size) and redis.call('RPOP', key) or nil
+                redis.call('DEL', blobKey(page))
+                shifting = true
+                patched = patched + 1
+                prev = p
+            end
+        else
+            prev = p
+        end
+    end
+
+    return patched
+end
+
+for i, page in ipairs(pages) do
+    local p = tonumber(page)
+    local key = idsKey(page)
+    local len = redis.call('LLEN', key)
+
+    if len == 0 then
+        redis.call('ZREM', KEYS[1], page)
+    elseif tonumber(redis.call('LINDEX', key, -1)) <= postId then
+        if patched >= maxPatched then
+            drop(page)
+        else
+            -- 삭제된 ID 가 이 페이지에 없으면 더 앞 페이지에 있었으므로 맨 앞 ID 가 앞 페이지로 넘어간다
+            if redis.call('LREM', key, 1, ARGV[2]) == 0 then
+                redis.call('LPOP', key)
+            end
+
+            local nextPage = pages[i + 1]
+            local nextHead = false
+            if nextPage and tonumber(nextPage) == p + 1 then
+                nextHead = redis.call('LINDEX', idsKey(nextPage), 0)
+            end
+
+            if nextHead then
+                redis.call('RPUSH', key, nextHead)
+                redis.call('DEL', blobKey(page))
+                patched = patched + 1
+            elseif len < size then
+                -- 마지막 페이지라 채울 ID 가 없음
+                redis.call('DEL', blobKey(page))
+                patched = patched + 1
+            else
+                drop(page)
+            end
+        end
+    end
+end
+
+return patched
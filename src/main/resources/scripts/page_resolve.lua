@@ -0,0 +1,34 @@
+-- 게시글 목록 페이지 해석 (이정표 커서 + offset + ID 목록) 을 한 번의 왕복으로 처리
+-- 이정표는 오래된 쪽부터 센 위치(seq)를 점수로 갖기 때문에 최신 게시글이 추가되어도 움직이지 않는다
+-- KEYS[1] pagination:total:{type}
+-- KEYS[2] pagination:cursors:{type} (member = 게시글 ID, score = seq)
+-- KEYS[3] 페이지 ID 목록 키
+-- ARGV[1] 페이지 번호, ARGV[2] 페이지 크기
+-- 반환: { 'cursor', pageId(0 이면 최신 글부터), offset, ID 목록 TTL, id... } | { 'empty' } | { 'missing' }
+
+local total = tonumber(redis.call('GET', KEYS[1]) or '-1')
+if total < 0 then
+    return { 'missing' }
+end
+
+local headRank = (tonumber(ARGV[1]) - 1) * tonumber(ARGV[2])
+local target = total - 1 - headRank
+if target < 0 then
+    return { 'empty' }
+end
+
+-- 목표 위치 이상에서 가장 가까운 이정표, 없으면 아직 이정표가 없는 최신 구간
+local result
+local found = redis.call('ZRANGEBYSCORE', KEYS[2], target, '+inf', 'WITHSCORES', 'LIMIT', 0, 1)
+if #found == 0 then
+    result = { 'cursor', '0', tostring(headRank) }
+else
+    result = { 'cursor', found[1], tostring(tonumber(found[2]) - target) }
+end
+
+result[#result + 1] = tostring(redis.call('TTL', KEYS[3]))
+local ids = redis.call('LRANGE', KEYS[3], 0, -1)
+for i = 1, #ids do
+    result[#result + 1] = ids[i]
+end
+return result
@@ -0,0 +1,29 @@
+-- 게시글 생성 반영: 전체 개수를 늘리고, 새 위치가 이정표 간격에 걸리면 이정표 추가
+-- 새 게시글은 항상 가장 큰 ID 이므로 기존 이정표의 seq 는 바뀌지 않는다
+-- 반영한 게시글 ID 를 최근 keep 개까지 기록해 두어, 같은 생성을 다시 반영해도 개수가 두 번 늘지 않는다
+-- KEYS[1] pagination:total:{type}
+-- KEYS[2] pagination:cursors:{type}
+-- KEYS[3] pagination:applied:{type} (member = score = 게시글 ID)
+-- KEYS[4] pagination:snapshot:{type} (마지막 전체 재구성의 MAX(post_id), 이 이하는 재구성에 이미 포함)
+-- ARGV[1] 게시글 ID, ARGV[2] 이정표 간격(행), ARGV[3] 기록해 둘 최근 ID 수
+-- 반환: 새 게시글의 seq, 아직 전체 재구성 전이면 -1, 이미 반영(또는 재구성에 포함)됐으면 -2
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local snapshotMaxId = tonumber(redis.call('GET', KEYS[4]) or '0')
+if tonumber(ARGV[1]) <= snapshotMaxId then
+    return -2
+end
+
+if redis.call('ZADD', KEYS[3], 'NX', ARGV[1], ARGV[1]) == 0 then
+    return -2
+end
+redis.call('ZREMRANGEBYRANK', KEYS[3], 0, -(tonumber(ARGV[3]) + 1))
+
+local seq = redis.call('INCR', KEYS[1]) - 1
+if seq % tonumber(ARGV[2]) == 0 then
+    redis.call('ZADD', KEYS[2], seq, ARGV[1])
+end
+return seq
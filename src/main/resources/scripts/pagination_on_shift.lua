@@ -0,0 +1,32 @@
+-- 게시글 삭제/이동 반영: 해당 ID 이상인 이정표만 seq 를 delta 만큼 옮긴다
+-- 삭제(또는 다른 타입으로 이동해 나감)는 -1, 다른 타입에서 이동해 들어옴은 +1
+-- 최신 이정표부터 batch 개씩 처리하고, 다음 호출의 시작 rank 를 돌려줘서 한 번에 오래 막지 않는다
+-- KEYS[1] pagination:total:{type}
+-- KEYS[2] pagination:cursors:{type}
+-- ARGV[1] 게시글 ID, ARGV[2] 시작 rank, ARGV[3] batch 크기, ARGV[4] delta
+-- 반환: 다음 시작 rank, 끝났으면 -1
+
+local postId = tonumber(ARGV[1])
+local start = tonumber(ARGV[2])
+local batch = tonumber(ARGV[3])
+local delta = tonumber(ARGV[4])
+
+if start == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        return -1
+    end
+    redis.call('INCRBY', KEYS[1], delta)
+end
+
+local members = redis.call('ZREVRANGE', KEYS[2], start, start + batch - 1)
+for i = 1, #members do
+    if tonumber(members[i]) < postId then
+        return -1
+    end
+    redis.call('ZINCRBY', KEYS[2], delta, members[i])
+end
+
+if #members < batch then
+    return -1
+end
+return start + batch
@@ -0,0 +1,24 @@
+-- 검색 결과 한 페이지 저장 + 키워드 목록 크기 제한
+-- 키워드별 결과는 해시 하나(page:{n}, count)에 모아 두고, 키워드 목록 ZSET(score = 마지막 저장 시각)이
+-- 최대 개수를 넘으면 가장 오래된 키워드부터 해시째 지운다
+-- KEYS[1] 키워드 결과 해시, KEYS[2] 키워드 목록 ZSET
+-- ARGV[1] 페이지 필드, ARGV[2] 페이지 JSON, ARGV[3] 결과 수, ARGV[4] TTL(ms)
+-- ARGV[5] 현재 시각(ms), ARGV[6] 정규화된 키워드, ARGV[7] 최대 키워드 수
+-- ARGV[8] 결과 해시 키 접두사 (접두사 .. sha1(키워드))
+-- 반환: 밀려난 키워드 수
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2], 'count', ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+redis.call('ZADD', KEYS[2], ARGV[5], ARGV[6])
+redis.call('PEXPIRE', KEYS[2], 86400000)
+
+local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[7])
+if excess <= 0 then
+    return 0
+end
+
+local evicted = redis.call('ZPOPMIN', KEYS[2], excess)
+for i = 1, #evicted, 2 do
+    redis.call('DEL', ARGV[8] .. redis.sha1hex(evicted[i]))
+end
+return excess
@@ -0,0 +1,115 @@
+package com.main.suwoninfo.jwt;
+
+import com.main.suwoninfo.utils.RedisUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.util.StopWatch;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요청당 인증 비용 비교
+ * - 기존: 요청마다 파서를 새로 만들고 검증/인증 객체 생성에서 토큰을 두 번 파싱
+ * - 한 번 파싱: 미리 만든 파서로 한 번 파싱한 결과를 인증 객체 생성까지 공유
+ * - 검증 캐시: 같은 토큰 재요청 시 파싱 없이 캐시 조회
+ * 블랙리스트 확인(Redis)은 세 경우 모두 같으므로 mock 으로 제외하고 ns/op 를 출력한다
+ */
+@Tag("benchmark")
+public class JwtAuthBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final String SECRET = Base64.getEncoder().encodeToString("suwoninfo-jwt-benchmark-secret-key!!".getBytes());
+
+    private final RedisUtils redisUtils = mock(RedisUtils.class);
+    private final TokenBlacklist tokenBlacklist = mock(TokenBlacklist.class);
+    private final JwtTokenProvider tokenProvider = new JwtTokenProvider(SECRET, tokenBlacklist);
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), 10_000);
+    private final Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+
+    @Test
+    public void authenticationBenchmark() {
+        when(redisUtils.hasKeyBlackList(anyString())).thenReturn(false);
+        when(tokenBlacklist.isBlacklisted(anyString())).thenReturn(false);
+        tokenProvider.afterPropertiesSet();
+
+        Authentication login = new UsernamePasswordAuthenticationToken("user@suwon.ac.kr", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        String token = tokenProvider.generateToken(login).accessToken();
+
+        TokenValidationResult result = tokenProvider.validateToken(token);
+        assertTrue(result.getValid());
+        assertEquals("user@suwon.ac.kr", tokenProvider.getAuthentication(result).getName());
+
+        long legacy = measure("legacy", () -> legacyAuthenticate(token));
+        long parseOnce = measure("parse_once", () -> {
+            TokenValidationResult parsed = tokenProvider.validateToken(token);
+            return tokenProvider.getAuthentication(parsed);
+        });
+
+        verifiedTokenCache.put(token, tokenProvider.getAuthentication(result), result.getExpiresAtMillis());
+        long cached = measure("verified_cache", () -> verifiedTokenCache.get(token));
+
+        System.out.println("=============================================");
+        System.out.println("기존 (파서 생성 + 2회 파싱): " + legacy + " ns/op");
+        System.out.println("한 번 파싱 (공유 파서): " + parseOnce + " ns/op");
+        System.out.println("검증 캐시 적중: " + cached + " ns/op");
+        System.out.println("=============================================");
+    }
+
+    /**
+     * 변경 전 JwtFilter 경로 (validateToken + getAuthentication 각각 파서 생성/파싱)
+     */
+    private Authentication legacyAuthenticate(String token) {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        redisUtils.hasKeyBlackList(token);
+
+        Claims claims;
+        try {
+            claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        } catch (ExpiredJwtException e) {
+            claims = e.getClaims();
+        }
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(claims.get("auth").toString()));
+        return new UsernamePasswordAuthenticationToken(claims.getSubject(), "", authorities);
+    }
+
+    private long measure(String label, AuthStep step) {
+        for (int i = 0; i < WARMUP; i++) {
+            step.authenticate();
+        }
+
+        StopWatch stopWatch = new StopWatch(label);
+        stopWatch.start();
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (step.authenticate() == null) {
+                throw new IllegalStateException("인증 실패: " + label);
+            }
+        }
+        stopWatch.stop();
+
+        return stopWatch.getTotalTimeNanos() / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface AuthStep {
+        Authentication authenticate();
+    }
+}
@@ -0,0 +1,97 @@
+package com.main.suwoninfo.jwt;
+
+import com.main.suwoninfo.utils.RedisUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 블랙리스트 필터 사용 조건과 재구성 중 등록 인계 검증
+ */
+public class TokenBlacklistTest {
+
+    private static final String DIGESTS_KEY = "blacklist:digests";
+
+    private final RedisUtils redisUtils = mock(RedisUtils.class);
+    private final TokenBlacklist blacklist = new TokenBlacklist(redisUtils, new SimpleMeterRegistry(), 1000, 0.001);
+
+    @Test
+    public void checksRedisUntilFirstSync() {
+        assertFalse(blacklist.isBlacklisted("token"));
+        verify(redisUtils).hasKeyBlackList("token");
+    }
+
+    @Test
+    public void staysOnRedisUntilLegacyKeysExpire() {
+        stubSync(System.currentTimeMillis(), Set.of());
+
+        blacklist.sync();
+
+        assertFalse(blacklist.isBlacklisted("token"));
+        verify(redisUtils).hasKeyBlackList("token");
+    }
+
+    @Test
+    public void filterSkipsRedisForUnknownTokens() {
+        stubSync(completedSince(), Set.of(TokenDigest.of("logged-out")));
+        when(redisUtils.hasKeyBlackList("logged-out")).thenReturn(true);
+
+        blacklist.sync();
+
+        assertFalse(blacklist.isBlacklisted("token"));
+        verify(redisUtils, never()).hasKeyBlackList("token");
+        assertTrue(blacklist.isBlacklisted("logged-out"));
+    }
+
+    @Test
+    public void addedTokenIsInFilterBeforeNextSync() {
+        stubSync(completedSince(), Set.of());
+        blacklist.sync();
+
+        blacklist.add("logged-out", Duration.ofMinutes(30));
+        when(redisUtils.hasKeyBlackList("logged-out")).thenReturn(true);
+
+        assertTrue(blacklist.isBlacklisted("logged-out"));
+    }
+
+    @Test
+    public void registrationDuringRebuildReachesNewFilter() {
+        stubSync(completedSince(), Set.of());
+        // ZSET 을 읽은 뒤 다른 노드의 등록 메시지가 도착 (읽은 목록에는 없음)
+        when(redisUtils.zSetRange(DIGESTS_KEY, 0, -1)).thenAnswer(inv -> {
+            blacklist.onMessage(new DefaultMessage(TokenBlacklist.TOPIC.getBytes(StandardCharsets.UTF_8),
+                    TokenDigest.of("logged-out").getBytes(StandardCharsets.UTF_8)), null);
+            return Set.of();
+        });
+        when(redisUtils.hasKeyBlackList("logged-out")).thenReturn(true);
+
+        blacklist.sync();
+
+        assertTrue(blacklist.isBlacklisted("logged-out"));
+        verify(redisUtils).hasKeyBlackList("logged-out");
+    }
+
+    private void stubSync(long since, Set<String> digests) {
+        when(redisUtils.stringGet(anyString())).thenReturn(String.valueOf(since));
+        when(redisUtils.zSetGetCount(eq(DIGESTS_KEY), anyLong(), anyLong())).thenReturn((long) digests.size());
+        when(redisUtils.zSetRange(DIGESTS_KEY, 0, -1)).thenReturn(digests);
+    }
+
+    private long completedSince() {
+        return System.currentTimeMillis() - TokenBlacklist.MAX_TTL.toMillis() - 1000;
+    }
+}
@@ -0,0 +1,59 @@
+package com.main.suwoninfo.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 블랙리스트 블룸 필터 검증
+ * 넣은 다이제스트는 항상 있다고 해야 하고 (없다고 하면 로그아웃 토큰이 통과), 오탐은 fpp 근처여야 한다
+ */
+public class TokenBloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FPP = 0.01;
+
+    @Test
+    public void noFalseNegatives() {
+        TokenBloomFilter filter = new TokenBloomFilter(INSERTIONS, FPP);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put(TokenDigest.sha256("token-" + i));
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain(TokenDigest.sha256("token-" + i)), "token-" + i);
+        }
+    }
+
+    @Test
+    public void falsePositiveRateNearFpp() {
+        TokenBloomFilter filter = new TokenBloomFilter(INSERTIONS, FPP);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put(TokenDigest.sha256("token-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < INSERTIONS; i++) {
+            if (filter.mightContain(TokenDigest.sha256("other-" + i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < INSERTIONS * FPP * 3, "false positives: " + falsePositives);
+    }
+
+    @Test
+    public void emptyAndTinyFilters() {
+        TokenBloomFilter empty = new TokenBloomFilter(1, FPP);
+        assertFalse(empty.mightContain(TokenDigest.sha256("token")));
+
+        // 예상보다 훨씬 많이 넣어도 넣은 것은 여전히 있다고 한다
+        TokenBloomFilter tiny = new TokenBloomFilter(0, FPP);
+        for (int i = 0; i < 100; i++) {
+            tiny.put(TokenDigest.sha256("token-" + i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertTrue(tiny.mightContain(TokenDigest.sha256("token-" + i)));
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.main.suwoninfo.redis;
+
+import org.junit.jupiter.api.Test;
+import org.luaj.vm2.Globals;
+import org.luaj.vm2.LuaTable;
+import org.luaj.vm2.LuaValue;
+import org.luaj.vm2.Varargs;
+import org.luaj.vm2.lib.VarArgFunction;
+import org.luaj.vm2.lib.jse.JsePlatform;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * ids_patch.lua 끼워 넣기/빼기 검증
+ * 스크립트가 쓰는 명령만 흉내 낸 메모리 저장소 위에서 Lua 를 그대로 실행한다
+ */
+public class IdsPatchScriptTest {
+
+    private static final String PAGES_KEY = "pages";
+    private static final int SIZE = 3;
+
+    private final Map<String, LinkedList<String>> lists = new HashMap<>();
+    private final Map<String, Map<String, Double>> zsets = new HashMap<>();
+    private final Set<String> blobs = new HashSet<>();
+
+    @Test
+    public void insertShiftsFollowingPages() throws IOException {
+        cachePage(1, "9", "8", "7");
+        cachePage(2, "6", "5", "4");
+        cachePage(3, "3", "2", "1");
+
+        assertEquals(3, patch("insert", 10, 20));
+
+        assertEquals(List.of("10", "9", "8"), lists.get(ids(1)));
+        assertEquals(List.of("7", "6", "5"), lists.get(ids(2)));
+        assertEquals(List.of("4", "3", "2"), lists.get(ids(3)));
+        assertTrue(blobs.isEmpty());
+    }
+
+    @Test
+    public void insertInsideFirstPage() throws IOException {
+        cachePage(1, "9", "7", "6");
+        cachePage(2, "5", "4", "3");
+
+        assertEquals(2, patch("insert", 8, 20));
+
+        assertEquals(List.of("9", "8", "7"), lists.get(ids(1)));
+        assertEquals(List.of("6", "5", "4"), lists.get(ids(2)));
+
+        // 이미 반영된 ID 는 다시 넣지 않음
+        assertEquals(0, patch("insert", 8, 20));
+        assertEquals(List.of("9", "8", "7"), lists.get(ids(1)));
+    }
+
+    @Test
+    public void insertDropsPagesAfterGap() throws IOException {
+        cachePage(1, "9", "8", "7");
+        cachePage(3, "3", "2", "1");
+
+        assertEquals(1, patch("insert", 10, 20));
+
+        assertEquals(List.of("10", "9", "8"), lists.get(ids(1)));
+        assertDropped(3);
+    }
+
+    @Test
+    public void insertDropsPagesPastLimit() throws IOException {
+        cachePage(1, "9", "8", "7");
+        cachePage(2, "6", "5", "4");
+        cachePage(3, "3", "2", "1");
+
+        assertEquals(2, patch("insert", 10, 2));
+
+        assertEquals(List.of("10", "9", "8"), lists.get(ids(1)));
+        assertEquals(List.of("7", "6", "5"), lists.get(ids(2)));
+        assertDropped(3);
+    }
+
+    @Test
+    public void removePullsHeadOfNextPage() throws IOException {
+        cachePage(1, "9", "8", "7");
+        cachePage(2, "6", "5", "4");
+        cachePage(3, "3", "2");
+
+        assertEquals(2, patch("remove", 5, 20));
+
+        assertEquals(List.of("9", "8", "7"), lists.get(ids(1)));
+        assertEquals(List.of("6", "4", "3"), lists.get(ids(2)));
+        assertEquals(List.of("2"), lists.get(ids(3)));
+        assertTrue(blobs.contains(blob(1)));
+        assertFalse(blobs.contains(blob(2)));
+    }
+
+    @Test
+    public void removeDropsFullLastPageAndPagesPastLimit() throws IOException {
+        cachePage(1, "9", "8", "7");
+        cachePage(2, "6", "5", "4");
+        cachePage(3, "3", "2", "1");
+
+        // 다음 페이지가 캐시에 없으면 채울 ID 를 알 수 없어 지운다
+        assertEquals(2, patch("remove", 8, 20));
+        assertEquals(List.of("9", "7", "6"), lists.get(ids(1)));
+        assertEquals(List.of("5", "4", "3"), lists.get(ids(2)));
+        assertDropped(3);
+
+        cachePage(3, "2", "1");
+        assertEquals(1, patch("remove", 9, 1));
+        assertEquals(List.of("7", "6", "5"), lists.get(ids(1)));
+        assertDropped(2);
+        assertDropped(3);
+    }
+
+    @Test
+    public void pageRegisteredAfterReadIsRetried() throws IOException {
+        cachePage(1, "9", "8", "7");
+        List<String> read = new ArrayList<>(zsets.get(PAGES_KEY).keySet());
+        cachePage(2, "6", "5", "4");
+
+        assertEquals(-1, run("insert", 10, 20, read));
+        assertEquals(List.of("9", "8", "7"), lists.get(ids(1)));
+    }
+
+    private void cachePage(int page, String... ids) {
+        lists.put(ids(page), new LinkedList<>(Arrays.asList(ids)));
+        blobs.add(blob(page));
+        zsets.computeIfAbsent(PAGES_KEY, k -> new HashMap<>()).put(String.valueOf(page), (double) page);
+    }
+
+    private void assertDropped(int page) {
+        assertFalse(lists.containsKey(ids(page)));
+        assertFalse(blobs.contains(blob(page)));
+        assertFalse(zsets.get(PAGES_KEY).containsKey(String.valueOf(page)));
+    }
+
+    private long patch(String mode, long postId, int maxPatched) throws IOException {
+        return run(mode, postId, maxPatched, zrange(PAGES_KEY));
+    }
+
+    private long run(String mode, long postId, int maxPatched, List<String> pages) throws IOException {
+        LuaTable keys = new LuaTable();
+        LuaTable argv = new LuaTable();
+        append(keys, LuaValue.valueOf(PAGES_KEY));
+        for (String arg : List.of(mode, String.valueOf(postId), String.valueOf(SIZE), String.valueOf(maxPatched))) {
+            append(argv, LuaValue.valueOf(arg));
+        }
+        for (String page : pages) {
+            append(keys, LuaValue.valueOf(ids(Integer.parseInt(page))));
+            append(keys, LuaValue.valueOf(blob(Integer.parseInt(page))));
+            append(argv, LuaValue.valueOf(page));
+        }
+
+        LuaTable redis = new LuaTable();
+        redis.set("call", new VarArgFunction() {
+            @Override
+            public Varargs invoke(Varargs args) {
+                return call(args);
+            }
+        });
+
+        Globals globals = JsePlatform.standardGlobals();
+        globals.set("KEYS", keys);
+        globals.set("ARGV", argv);
+        globals.set("redis", redis);
+
+        String script = new ClassPathResource("scripts/ids_patch.lua").getContentAsString(StandardCharsets.UTF_8);
+        return globals.load(script, "ids_patch").call().tolong();
+    }
+
+    // Redis 응답 규칙: nil 은 false, 정수는 number, 목록은 table
+    private LuaValue call(Varargs args) {
+        String command = args.arg1().tojstring();
+        String key = args.arg(2).tojstring();
+        LinkedList<String> list = lists.get(key);
+
+        switch (command) {
+            case "ZRANGE" -> {
+                return table(zrange(key));
+            }
+            case "ZREM" -> {
+                Map<String, Double> zset = zsets.get(key);
+                return LuaValue.valueOf(zset != null && zset.remove(args.arg(3).tojstring()) != null ? 1 : 0);
+            }
+            case "DEL" -> {
+                int deleted = 0;
+                for (int i = 2; i <= args.narg(); i++) {
+                    String target = args.arg(i).tojstring();
+                    if (lists.remove(target) != null | blobs.remove(target) | zsets.remove(target) != null) {
+                        deleted++;
+                    }
+                }
+                return LuaValue.valueOf(deleted);
+            }
+            case "LLEN" -> {
+                return LuaValue.valueOf(list == null ? 0 : list.size());
+            }
+            case "LINDEX" -> {
+                if (list == null) {
+                    return LuaValue.FALSE;
+                }
+                int index = args.arg(3).toint();
+                int at = index < 0 ? list.size() + index : index;
+                return at < 0 || at >= list.size() ? LuaValue.FALSE : LuaValue.valueOf(list.get(at));
+            }
+            case "LRANGE" -> {
+                return table(list == null ? List.of() : list);
+            }
+            case "LPUSH", "RPUSH" -> {
+                LinkedList<String> target = lists.computeIfAbsent(key, k -> new LinkedList<>());
+                if (command.equals("LPUSH")) {
+                    target.addFirst(args.arg(3).tojstring());
+                } else {
+                    target.addLast(args.arg(3).tojstring());
+                }
+                return LuaValue.valueOf(target.size());
+            }
+            case "LPOP", "RPOP" -> {
+                if (list == null) {
+                    return LuaValue.FALSE;
+                }
+                String popped = command.equals("LPOP") ? list.removeFirst() : list.removeLast();
+                if (list.isEmpty()) {
+                    lists.remove(key);
+                }
+                return LuaValue.valueOf(popped);
+            }
+            case "LREM" -> {
+                boolean removed = list != null && list.remove(args.arg(4).tojstring());
+                return LuaValue.valueOf(removed ? 1 : 0);
+            }
+            case "LINSERT" -> {
+                int at = list.indexOf(args.arg(4).tojstring());
+                list.add(at, args.arg(5).tojstring());
+                return LuaValue.valueOf(list.size());
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 명령: " + command);
+        }
+    }
+
+    private List<String> zrange(String key) {
+        return zsets.getOrDefault(key, Map.of()).entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private LuaTable table(List<String> values) {
+        LuaTable table = new LuaTable();
+        for (String value : values) {
+            append(table, LuaValue.valueOf(value));
+        }
+        return table;
+    }
+
+    private void append(LuaTable table, LuaValue value) {
+        table.set(table.length() + 1, value);
+    }
+
+    private String ids(int page) {
+        return "ids:" + page;
+    }
+
+    private String blob(int page) {
+        return "blob:" + page;
+    }
+}
@@ -0,0 +1,105 @@
+package com.main.suwoninfo.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.dto.PhotoResponse;
+import com.main.suwoninfo.dto.PostResponse;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.util.StopWatch;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * v1:post:{id} 값 직렬화 비교 (기존 JSON vs 바이너리)
+ * 값 크기와 직렬화/역직렬화 ns/op 를 출력한다
+ * 측정은 benchmark 태그로 기본 test 에서 빠지고 ./gradlew benchmark 로 실행한다 (왕복 검증은 기본 test 에 남김)
+ */
+public class PostSerializerBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new BlackbirdModule())
+            .build();
+
+    private final RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer(objectMapper);
+    private final RedisSerializer<Object> compact = new PostResponseCompactSerializer(1024);
+
+    @Test
+    public void compactSerializerRoundTrip() {
+        PostResponse post = createPost(new Faker(new Locale("ko")).lorem().sentence(10));
+
+        assertEquals(post, compact.deserialize(compact.serialize(post)));
+
+        // 압축 경로
+        PostResponse large = createPost("가나다라마바사".repeat(1000));
+        assertEquals(large, compact.deserialize(compact.serialize(large)));
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void serializerBenchmark() {
+        Faker faker = new Faker(new Locale("ko"));
+
+        // FakePostTest 로 넣는 게시글과 같은 크기의 본문, 그리고 압축 임계값을 넘는 긴 본문
+        run("short", createPost(faker.lorem().sentence(10)));
+        run("long", createPost(faker.lorem().paragraph(200)));
+    }
+
+    private void run(String label, PostResponse post) {
+        for (RedisSerializer<Object> serializer : List.of(json, compact)) {
+            byte[] bytes = serializer.serialize(post);
+
+            for (int i = 0; i < WARMUP; i++) {
+                serializer.deserialize(serializer.serialize(post));
+            }
+
+            StopWatch stopWatch = new StopWatch();
+            stopWatch.start("serialize");
+            for (int i = 0; i < ITERATIONS; i++) {
+                serializer.serialize(post);
+            }
+            stopWatch.stop();
+
+            stopWatch.start("deserialize");
+            for (int i = 0; i < ITERATIONS; i++) {
+                serializer.deserialize(bytes);
+            }
+            stopWatch.stop();
+
+            System.out.println("=============================================");
+            System.out.println("[" + label + "] " + serializer.getClass().getSimpleName());
+            System.out.println("크기: " + bytes.length + " bytes");
+            for (StopWatch.TaskInfo task : stopWatch.getTaskInfo()) {
+                System.out.println(task.getTaskName() + ": " + task.getTimeNanos() / ITERATIONS + " ns/op");
+            }
+        }
+    }
+
+    private PostResponse createPost(String content) {
+        return PostResponse.builder()
+                .postId(1_234_567L)
+                .title("수원 원룸 양도합니다")
+                .content(content)
+                .price(350_000)
+                .postType(Post.PostType.TRADE)
+                .tradeStatus(Post.TradeStatus.NOW_TRADING)
+                .photos(List.of(PhotoResponse.builder()
+                        .photoId(42L)
+                        .origFileName("room.jpg")
+                        .filePath("/upload/2024/room.jpg")
+                        .fileSize(204_800L)
+                        .build()))
+                .build();
+    }
+}
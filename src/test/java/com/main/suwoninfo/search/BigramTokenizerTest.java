@@ -0,0 +1,43 @@
+package com.main.suwoninfo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 색인 토큰과 검색어 토큰 검증
+ */
+public class BigramTokenizerTest {
+
+    @Test
+    public void indexTokensIncludeBigramsAndSingleCharacters() {
+        assertEquals(List.of("중", "중고", "고", "고거", "거", "거래", "래"),
+                List.copyOf(BigramTokenizer.tokenize("중고거래")));
+        assertEquals(List.of("차"), List.copyOf(BigramTokenizer.tokenize("차")));
+    }
+
+    @Test
+    public void wordsAreSplitOnNonLetterAndLowercased() {
+        assertEquals(List.of("a", "ab", "b", "1", "12", "2"), List.copyOf(BigramTokenizer.tokenize("AB, 12!")));
+        // 같은 토큰은 한 번만
+        assertEquals(List.of("가", "가가"), List.copyOf(BigramTokenizer.tokenize("가가 가")));
+    }
+
+    @Test
+    public void queryTokensUseBigramsUnlessWordIsSingleCharacter() {
+        assertEquals(List.of("중고", "고거", "거래"), List.copyOf(BigramTokenizer.queryTokens("중고거래")));
+        assertEquals(List.of("차"), List.copyOf(BigramTokenizer.queryTokens("차")));
+        assertEquals(List.of("차", "팝니", "니다"), List.copyOf(BigramTokenizer.queryTokens("차 팝니다")));
+    }
+
+    @Test
+    public void emptyInput() {
+        assertTrue(BigramTokenizer.tokenize(null).isEmpty());
+        assertTrue(BigramTokenizer.tokenize(" !? ").isEmpty());
+        assertTrue(BigramTokenizer.queryTokens(null).isEmpty());
+        assertTrue(BigramTokenizer.queryTokens("+-").isEmpty());
+    }
+}
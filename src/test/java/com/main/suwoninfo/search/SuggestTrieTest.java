@@ -0,0 +1,94 @@
+package com.main.suwoninfo.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * SuggestTrie 상위 k 조회 검증
+ */
+public class SuggestTrieTest {
+
+    @Test
+    public void prefixHitAndMiss() {
+        SuggestTrie trie = new SuggestTrie.Builder()
+                .add("수원", 5)
+                .add("수원역", 3)
+                .add("수업", 4)
+                .add("원룸", 7)
+                .build(10);
+
+        assertEquals(List.of("수원", "수업", "수원역"), trie.suggest("수", 10));
+        assertEquals(List.of("수원", "수원역"), trie.suggest("수원", 10));
+        assertEquals(List.of("수원역"), trie.suggest("수원역", 10));
+        assertEquals(List.of(), trie.suggest("수원역앞", 10));
+        assertEquals(List.of(), trie.suggest("기숙사", 10));
+    }
+
+    @Test
+    public void emptyPrefixReturnsTopOfAll() {
+        SuggestTrie trie = new SuggestTrie.Builder()
+                .add("a", 1)
+                .add("b", 3)
+                .add("c", 2)
+                .build(2);
+
+        assertEquals(List.of("b", "c"), trie.suggest("", 10));
+    }
+
+    @Test
+    public void weightOrderAndTies() {
+        SuggestTrie trie = new SuggestTrie.Builder()
+                .add("ab", 2)
+                .add("ac", 5)
+                .add("ad", 2)
+                .add("aa", 2)
+                .add("ac", 1) // 같은 문구는 가중치를 합친다
+                .build(10);
+
+        // 가중치 내림차순, 같으면 사전순
+        assertEquals(List.of("ac", "aa", "ab", "ad"), trie.suggest("a", 10));
+        assertEquals(6, trie.weight("ac"));
+        assertEquals(0, trie.weight("ae"));
+    }
+
+    @Test
+    public void topKAcrossDeepChildren() {
+        SuggestTrie trie = new SuggestTrie.Builder()
+                .add("x", 1)
+                .add("xa", 2)
+                .add("xab", 9)
+                .add("xb", 8)
+                .add("xbc", 3)
+                .build(2);
+
+        assertEquals(List.of("xab", "xb"), trie.suggest("x", 2));
+        assertEquals(List.of("xab", "xa"), trie.suggest("xa", 2));
+    }
+
+    @Test
+    public void limitAboveKIsCappedAtK() {
+        SuggestTrie trie = new SuggestTrie.Builder()
+                .add("a1", 1)
+                .add("a2", 2)
+                .add("a3", 3)
+                .add("a4", 4)
+                .build(2);
+
+        assertEquals(List.of("a4", "a3"), trie.suggest("a", 10));
+        assertEquals(List.of("a4"), trie.suggest("a", 1));
+    }
+
+    @Test
+    public void emptyTrie() {
+        SuggestTrie trie = SuggestTrie.empty();
+
+        assertEquals(0, trie.size());
+        assertTrue(trie.suggest("a", 10).isEmpty());
+        assertTrue(trie.suggest("", 10).isEmpty());
+        assertTrue(new SuggestTrie.Builder().add("", 3).add(null, 1).build(3).suggest("", 3).isEmpty());
+    }
+}
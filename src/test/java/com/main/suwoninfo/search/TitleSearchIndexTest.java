@@ -0,0 +1,106 @@
+package com.main.suwoninfo.search;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.utils.RedisUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 제목 메모리 색인 검색과 재구성 중 변경 병합 검증
+ */
+public class TitleSearchIndexTest {
+
+    private static final Post.PostType FREE = Post.PostType.FREE;
+    private static final Post.PostType TRADE = Post.PostType.TRADE;
+
+    private final TitleSearchIndex index = new TitleSearchIndex(mock(RedisUtils.class), new ObjectMapper());
+
+    @Test
+    public void singleCharacterMatchesInsideLongerWords() {
+        index.add(FREE, 1L, "중고차 팝니다");
+        index.add(FREE, 2L, "차 삽니다");
+        index.add(FREE, 3L, "자전거");
+
+        assertEquals(List.of(2L, 1L), index.search(FREE, "차", null, 0, 10));
+        assertEquals(2, index.count(FREE, "차"));
+        assertEquals(List.of(1L), index.search(FREE, "중고차", null, 0, 10));
+    }
+
+    @Test
+    public void searchIsNewestFirstWithCursorAndOffset() {
+        index.add(FREE, 1L, "원룸 양도");
+        index.add(FREE, 5L, "투룸 양도");
+        index.add(FREE, 9L, "원룸 양도합니다");
+        index.add(TRADE, 7L, "원룸 양도");
+
+        assertEquals(List.of(9L, 1L), index.search(FREE, "원룸 양도", null, 0, 10));
+        assertEquals(List.of(1L), index.search(FREE, "원룸 양도", 9L, 0, 10));
+        assertEquals(List.of(1L), index.search(FREE, "원룸 양도", null, 1, 10));
+        assertEquals(List.of(9L), index.search(FREE, "양도", null, 0, 1));
+        assertEquals(List.of(7L), index.search(TRADE, "원룸", null, 0, 10));
+        assertTrue(index.search(FREE, "오피스텔", null, 0, 10).isEmpty());
+    }
+
+    @Test
+    public void removeDropsPostFromItsTokens() {
+        index.add(FREE, 1L, "책상 팝니다");
+        index.remove(FREE, 1L, "책상 팝니다");
+
+        assertTrue(index.search(FREE, "책상", null, 0, 10).isEmpty());
+        assertTrue(index.search(FREE, "책", null, 0, 10).isEmpty());
+    }
+
+    @Test
+    public void rebuildMergesChangesMadeWhileBuilding() {
+        index.add(FREE, 1L, "낡은 자전거");
+        index.add(FREE, 2L, "책상");
+        assertFalse(index.isReady());
+
+        index.beginRebuild();
+
+        // 배치가 읽은 1번은 수정 전 제목
+        index.addAll(List.of(new TitleSearchIndex.Entry(1L, FREE, "낡은 자전거")));
+
+        // 재구성 중 수정, 생성, 삭제
+        index.remove(FREE, 1L, "낡은 자전거");
+        index.add(FREE, 1L, "새 자전거 판매");
+        index.add(FREE, 5L, "중고 노트북");
+        index.remove(FREE, 2L, "책상");
+
+        // 삭제 전에 읽힌 2번이 삭제 뒤에 쓰임
+        index.addAll(List.of(new TitleSearchIndex.Entry(2L, FREE, "책상")));
+
+        // 교체 전에도 기존 색인으로 응답
+        assertEquals(List.of(1L), index.search(FREE, "판매", null, 0, 10));
+
+        index.completeRebuild();
+
+        assertTrue(index.isReady());
+        assertTrue(index.search(FREE, "낡은", null, 0, 10).isEmpty());
+        assertEquals(List.of(1L), index.search(FREE, "판매", null, 0, 10));
+        assertEquals(List.of(1L), index.search(FREE, "자전거", null, 0, 10));
+        assertEquals(List.of(5L), index.search(FREE, "노트북", null, 0, 10));
+        assertTrue(index.search(FREE, "책상", null, 0, 10).isEmpty());
+    }
+
+    @Test
+    public void abortKeepsCurrentIndex() {
+        index.add(FREE, 1L, "자전거");
+
+        index.beginRebuild();
+        index.addAll(List.of(new TitleSearchIndex.Entry(2L, FREE, "노트북")));
+        index.abortRebuild();
+        index.completeRebuild();
+
+        assertFalse(index.isReady());
+        assertEquals(List.of(1L), index.search(FREE, "자전거", null, 0, 10));
+        assertTrue(index.search(FREE, "노트북", null, 0, 10).isEmpty());
+    }
+}
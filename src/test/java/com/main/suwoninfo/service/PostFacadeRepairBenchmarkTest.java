@@ -0,0 +1,148 @@
+package com.main.suwoninfo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.main.suwoninfo.domain.Post;
+import com.main.suwoninfo.dto.PostResponse;
+import com.main.suwoninfo.redis.CacheSerializers;
+import com.main.suwoninfo.redis.PostNearCache;
+import com.main.suwoninfo.redis.PostPageBlobCache;
+import com.main.suwoninfo.redis.PostPageResolver;
+import com.main.suwoninfo.utils.RedisUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.util.StopWatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일부 누락(partial hit) 보충 경로 비용 비교
+ * Redis 왕복과 DB 조회에 고정 지연을 주고, 완전 히트와 일부 누락의 평균 응답 시간을 출력한다
+ * 일부 누락은 완전 히트 + DB 조회 + 파이프라인 쓰기 한 번이어야 한다
+ */
+@Tag("benchmark")
+public class PostFacadeRepairBenchmarkTest {
+
+    private static final long REDIS_RTT_MILLIS = 1;
+    private static final long DB_MILLIS = 5;
+    private static final int ITERATIONS = 200;
+    private static final int PAGE_SIZE = 10;
+
+    private final PostService postService = mock(PostService.class);
+    private final RedisUtils redisUtils = mock(RedisUtils.class);
+    private final PostNearCache postNearCache = mock(PostNearCache.class);
+    private final PostPageResolver postPageResolver = mock(PostPageResolver.class);
+
+    private final PostFacade postFacade = new PostFacade(postService, redisUtils, new ObjectMapper(),
+            new SimpleMeterRegistry(), postNearCache, postPageResolver, mock(RedissonClient.class),
+            mock(PostPageBlobCache.class), mock(CacheSerializers.class));
+
+    @Test
+    public void partialHitBenchmark() throws InterruptedException {
+        List<String> ids = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            ids.add(String.valueOf(id));
+        }
+
+        when(redisUtils.versionedKey(anyString(), anyString()))
+                .thenAnswer(inv -> inv.getArgument(0) + ":" + inv.getArgument(1));
+        when(postPageResolver.resolve(any(), anyInt(), anyString()))
+                .thenAnswer(inv -> {
+                    Thread.sleep(REDIS_RTT_MILLIS);
+                    return new PostPageResolver.PageResolution(false, 0, 0, 100L, ids);
+                });
+        doAnswer(inv -> {
+            Thread.sleep(REDIS_RTT_MILLIS);
+            return null;
+        }).when(redisUtils).pipelineSet(any(), any(), any());
+
+        // 완전 히트
+        List<Object> fullHit = ids.stream().map(id -> (Object) createResponse(Long.parseLong(id))).collect(Collectors.toList());
+        stubMultiGet(fullHit);
+        long fullHitMicros = measure("full_hit");
+
+        // 일부 누락 (MISSING_THRESHOLD 이내)
+        List<Object> partialHit = new ArrayList<>(fullHit);
+        partialHit.set(3, null);
+        partialHit.set(7, null);
+        stubMultiGet(partialHit);
+        when(postService.findAllById(anyList())).thenAnswer(inv -> {
+            Thread.sleep(DB_MILLIS);
+            List<Long> missing = inv.getArgument(0);
+            return missing.stream().map(this::createPost).collect(Collectors.toList());
+        });
+        long partialHitMicros = measure("partial_hit");
+
+        // 누락분만 DB 한 번, 파이프라인 쓰기 한 번
+        verify(postService, times(ITERATIONS + 1)).findAllById(eq(List.of(4L, 8L)));
+        verify(redisUtils, times(ITERATIONS + 1)).pipelineSet(any(), any(), any());
+
+        System.out.println("=============================================");
+        System.out.println("Redis RTT: " + REDIS_RTT_MILLIS + " ms, DB: " + DB_MILLIS + " ms");
+        System.out.println("완전 히트 평균: " + fullHitMicros + " us");
+        System.out.println("일부 누락 평균: " + partialHitMicros + " us");
+        System.out.println("차이: " + (partialHitMicros - fullHitMicros) + " us (DB + 쓰기 1 RTT 기대)");
+        System.out.println("=============================================");
+    }
+
+    private void stubMultiGet(List<Object> values) {
+        when(redisUtils.multiGet(anyList(), any())).thenAnswer(inv -> {
+            Thread.sleep(REDIS_RTT_MILLIS);
+            return new ArrayList<>(values);
+        });
+    }
+
+    private long measure(String label) throws InterruptedException {
+        // 워밍업
+        postFacade.findPostList(PAGE_SIZE, 1, Post.PostType.FREE);
+
+        StopWatch stopWatch = new StopWatch(label);
+        stopWatch.start();
+        for (int i = 0; i < ITERATIONS; i++) {
+            List<PostResponse> result = postFacade.findPostList(PAGE_SIZE, 1, Post.PostType.FREE);
+            if (result.size() != PAGE_SIZE) {
+                throw new IllegalStateException("조회 건수 불일치: " + result.size());
+            }
+        }
+        stopWatch.stop();
+
+        return stopWatch.getTotalTimeNanos() / ITERATIONS / 1_000;
+    }
+
+    private PostResponse createResponse(Long id) {
+        return PostResponse.builder()
+                .postId(id)
+                .title("제목 " + id)
+                .content("내용 " + id)
+                .price(1000)
+                .postType(Post.PostType.FREE)
+                .tradeStatus(Post.TradeStatus.READY)
+                .photos(List.of())
+                .build();
+    }
+
+    private Post createPost(Long id) {
+        return Post.builder()
+                .id(id)
+                .title("제목 " + id)
+                .content("내용 " + id)
+                .price(1000)
+                .postType(Post.PostType.FREE)
+                .tradeStatus(Post.TradeStatus.READY)
+                .build();
+    }
+}